@@ -1,8 +1,11 @@
 package com.redhat.devtools.intellij.quarkus;
 
 import com.intellij.openapi.util.Key;
+import com.redhat.devtools.intellij.quarkus.module.QuarkusExtension;
 import com.redhat.devtools.intellij.quarkus.module.QuarkusModel;
 
+import java.util.Set;
+
 public class QuarkusConstants {
     public final static Key<String> WIZARD_GROUPID_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".groupId");
     public final static Key<String> WIZARD_ARTIFACTID_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".artifactId");
@@ -10,10 +13,16 @@ public class QuarkusConstants {
     public final static Key<String> WIZARD_CLASSNAME_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".className");
     public final static Key<String> WIZARD_PATH_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".path");
     public final static Key<QuarkusModel> WIZARD_MODEL_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".model");
+    public final static Key<Set<QuarkusExtension>> WIZARD_EXTENSIONS_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".extensions");
     public final static Key<String> WIZARD_ENDPOINT_URL_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".endpointURL");
+    public final static Key<Boolean> WIZARD_OFFLINE_KEY = Key.create(QuarkusConstants.class.getPackage().getName() + ".offline");
     public static final String CONFIG_ROOT_ANNOTATION = "io.quarkus.runtime.annotations.ConfigRoot";
     public static final String CONFIG_ITEM_ANNOTATION = "io.quarkus.runtime.annotations.ConfigItem";
     public static final String QUARKUS_PREFIX = "quarkus.";
     public static final String CONFIG_GROUP_ANNOTATION = "io.quarkus.runtime.annotations.ConfigGroup";
+    public static final String CONFIG_PROPERTY_ANNOTATION = "org.eclipse.microprofile.config.inject.ConfigProperty";
     public static final String QUARKUS_JAVADOC_PROPERTIES = "quarkus-javadoc.properties";
+    public static final String QUARKUS_CODE_URL = "https://code.quarkus.io";
+    public static final String LAST_ENDPOINT_URL = "quarkus.code.endpoint.url.last";
+    public static final String LAST_OFFLINE = "quarkus.code.offline.last";
 }
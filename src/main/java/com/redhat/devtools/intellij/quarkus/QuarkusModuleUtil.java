@@ -0,0 +1,42 @@
+package com.redhat.devtools.intellij.quarkus;
+
+import com.intellij.facet.FacetManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.quarkus.facet.QuarkusFacet;
+
+import java.io.File;
+
+public class QuarkusModuleUtil {
+    private static final String QUARKUS_CORE_PREFIX = "quarkus-core";
+
+    /**
+     * Check if the module is a Quarkus module: either it has the Quarkus facet or it depends on quarkus-core.
+     *
+     * @param module the module to check
+     * @return true if the module is a Quarkus module
+     */
+    public static boolean isQuarkusModule(Module module) {
+        if (FacetManager.getInstance(module).getFacetByType(QuarkusFacet.FACET_TYPE_ID) != null) {
+            return true;
+        }
+        for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+            if (root.getName().startsWith(QUARKUS_CORE_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the URI of the module used to identify it with the language server.
+     *
+     * @param module the module
+     * @return the module URI
+     */
+    public static String getModuleURI(Module module) {
+        return new File(ModuleUtilCore.getModuleDirPath(module)).toURI().toString();
+    }
+}
@@ -3,12 +3,14 @@ package com.redhat.devtools.intellij.quarkus;
 import com.github.gtache.lsp.client.languageserver.serverdefinition.ExeLanguageServerDefinition;
 import com.github.gtache.lsp.client.languageserver.serverdefinition.LanguageServerDefinition;
 import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.ide.plugins.PluginManager;
 import com.intellij.ide.plugins.cl.PluginClassLoader;
 import com.intellij.openapi.application.PreloadingActivity;
 import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.redhat.devtools.intellij.quarkus.lsp.QuarkusLanguageServerDefinition;
+import com.redhat.devtools.intellij.quarkus.module.QuarkusModelRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
@@ -22,6 +24,7 @@ public class QuarkusPreloadActivity extends PreloadingActivity {
         File serverPath = new File(descriptor.getPath(), "lib/server/com.redhat.quarkus.ls-0.0.1-SNAPSHOT-uber.jar");
         String javaHome = System.getProperty("java.home");
         LanguageServerDefinition.register(new QuarkusLanguageServerDefinition("properties", javaHome + File.separator + "bin" + File.separator + "java", new String[] { "-jar", serverPath.getAbsolutePath().toString()}));
+        QuarkusModelRegistry.INSTANCE.prefetch(PropertiesComponent.getInstance().getValue(QuarkusConstants.LAST_ENDPOINT_URL, QuarkusConstants.QUARKUS_CODE_URL));
     }
 
     private void hackClassLoader() {
@@ -0,0 +1,99 @@
+package com.redhat.devtools.intellij.quarkus.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.components.JBTextArea;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
+import com.redhat.devtools.intellij.quarkus.lsp.QuarkusLSPMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.Action;
+import javax.swing.JComponent;
+import java.awt.event.ActionEvent;
+import java.io.IOException;
+
+/**
+ * Display the latency metrics of the Quarkus language server and allow to export them.
+ */
+public class QuarkusLSPMetricsAction extends AnAction {
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        new MetricsDialog(e.getProject()).show();
+    }
+
+    private static class MetricsDialog extends DialogWrapper {
+        private final Project project;
+        private final JBTextArea text = new JBTextArea();
+
+        private MetricsDialog(@Nullable Project project) {
+            super(project, false);
+            this.project = project;
+            setTitle("Quarkus Language Server Metrics");
+            text.setEditable(false);
+            text.setFont(UIUtil.getFontWithFallback("Monospaced", text.getFont().getStyle(), text.getFont().getSize()));
+            refresh();
+            init();
+        }
+
+        private void refresh() {
+            text.setText(QuarkusLSPMetrics.INSTANCE.dump());
+        }
+
+        @Nullable
+        @Override
+        protected JComponent createCenterPanel() {
+            JComponent pane = ScrollPaneFactory.createScrollPane(text);
+            pane.setPreferredSize(JBUI.size(700, 300));
+            return pane;
+        }
+
+        @NotNull
+        @Override
+        protected Action[] createLeftSideActions() {
+            return new Action[]{new DialogWrapperAction("Refresh") {
+                @Override
+                protected void doAction(ActionEvent e) {
+                    refresh();
+                }
+            }, new DialogWrapperAction("Reset") {
+                @Override
+                protected void doAction(ActionEvent e) {
+                    QuarkusLSPMetrics.INSTANCE.reset();
+                    refresh();
+                }
+            }, new DialogWrapperAction("Export...") {
+                @Override
+                protected void doAction(ActionEvent e) {
+                    export();
+                }
+            }};
+        }
+
+        @NotNull
+        @Override
+        protected Action[] createActions() {
+            return new Action[]{getOKAction()};
+        }
+
+        private void export() {
+            FileSaverDescriptor descriptor = new FileSaverDescriptor("Export Quarkus Language Server Metrics", "", "csv");
+            VirtualFileWrapper wrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project).save(null, "quarkus-lsp-metrics.csv");
+            if (wrapper != null) {
+                try {
+                    QuarkusLSPMetrics.INSTANCE.export(wrapper.getFile());
+                } catch (IOException e) {
+                    Messages.showErrorDialog(project, e.getLocalizedMessage(), "Cannot Export Metrics");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.codeInsight.completion.CompletionContributor;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.containers.ContainerUtil;
+import com.redhat.devtools.intellij.quarkus.lsp.QuarkusLSPMetrics;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigKeyTrie;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigMetadataService;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigPropertyProvider;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigScanScheduler;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Complete property keys and enum values of Quarkus properties files from the cached config metadata of the module,
+ * without a round trip to the language server. The other contributors (the language server) still run and their
+ * results are added unless they duplicate ours.
+ */
+public class ApplicationPropertiesCompletionContributor extends CompletionContributor {
+    /**
+     * Lookup elements are built once per snapshot.
+     */
+    private static class CompletionData {
+        private final List<LookupElement> keys = new ArrayList<>();
+
+        private CompletionData(QuarkusConfigSnapshot snapshot) {
+            for (ExtendedConfigDescriptionBuildItem item : snapshot.getConfigItems()) {
+                keys.add(createLookupElement(item));
+            }
+        }
+    }
+
+    private static LookupElement createLookupElement(ExtendedConfigDescriptionBuildItem item) {
+        return LookupElementBuilder.create(item, item.getPropertyName())
+                .withTypeText(item.getType() != null ? StringUtil.getShortName(item.getType()) : null, true)
+                .withTailText(item.getDefaultValue() != null ? " = " + item.getDefaultValue() : null, true);
+    }
+
+    private final Map<QuarkusConfigSnapshot, CompletionData> completionData = ContainerUtil.createConcurrentWeakMap();
+
+    @Override
+    public void fillCompletionVariants(@NotNull CompletionParameters parameters, @NotNull CompletionResultSet result) {
+        PsiFile file = parameters.getOriginalFile();
+        if (file.getFileType() != ApplicationPropertiesFileType.INSTANCE) {
+            return;
+        }
+        long start = System.nanoTime();
+        Module module = ModuleUtilCore.findModuleForPsiElement(file);
+        if (module == null) {
+            return;
+        }
+        QuarkusConfigMetadataService service = QuarkusConfigMetadataService.getInstance(module.getProject());
+        QuarkusConfigSnapshot snapshot = service.getCachedSnapshot(module);
+        if (snapshot == null) {
+            QuarkusConfigScanScheduler.getInstance(module.getProject()).schedule(module, QuarkusConfigScanScheduler.Priority.FOCUSED);
+            snapshot = service.getLastKnownSnapshot(module);
+            if (snapshot == null) {
+                return;
+            }
+        }
+        CompletionData data = completionData.computeIfAbsent(snapshot, CompletionData::new);
+
+        Document document = parameters.getEditor().getDocument();
+        int offset = parameters.getOffset();
+        int lineStart = document.getLineStartOffset(document.getLineNumber(offset));
+        String line = document.getCharsSequence().subSequence(lineStart, offset).toString();
+        String trimmed = StringUtil.trimLeading(line);
+        if (trimmed.startsWith("#") || trimmed.startsWith("!")) {
+            return;
+        }
+        Set<String> added = new HashSet<>();
+        int separator = StringUtil.indexOfAny(trimmed, "=:");
+        if (separator == -1) {
+            CompletionResultSet keyResult = result.withPrefixMatcher(QuarkusConfigKeyTrie.stripProfile(trimmed));
+            for (LookupElement element : data.keys) {
+                keyResult.addElement(element);
+                added.add(element.getLookupString());
+            }
+            if (!DumbService.isDumb(module.getProject())) {
+                // application properties injected with @ConfigProperty, computed again only for modified files
+                for (ExtendedConfigDescriptionBuildItem item : QuarkusConfigPropertyProvider.getInstance(module.getProject()).getConfigItems(module)) {
+                    if (added.add(item.getPropertyName())) {
+                        keyResult.addElement(createLookupElement(item));
+                    }
+                }
+            }
+        } else {
+            ExtendedConfigDescriptionBuildItem item = snapshot.getKeyTrie().match(trimmed.substring(0, separator).trim());
+            if (item != null && item.getEnums() != null) {
+                CompletionResultSet valueResult = result.withPrefixMatcher(StringUtil.trimLeading(trimmed.substring(separator + 1)));
+                for (String value : item.getEnums()) {
+                    valueResult.addElement(LookupElementBuilder.create(value));
+                    added.add(value);
+                }
+            }
+        }
+        QuarkusLSPMetrics.INSTANCE.record(QuarkusLSPMetrics.COMPLETION + QuarkusLSPMetrics.IDE_SUFFIX, System.nanoTime() - start);
+        result.runRemainingContributors(parameters, completionResult -> {
+            if (!added.contains(completionResult.getLookupElement().getLookupString())) {
+                result.passResult(completionResult);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.lang.documentation.AbstractDocumentationProvider;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.impl.FakePsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigMetadataService;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusJavadocRenderer;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Documentation of the keys of Quarkus properties files, for the quick documentation and the completion popup.
+ * The javadoc is rendered by {@link QuarkusJavadocRenderer}, so it is rendered once per property.
+ */
+public class ApplicationPropertiesDocumentationProvider extends AbstractDocumentationProvider {
+    /**
+     * Element standing for a config item in the completion popup.
+     */
+    private static class ConfigItemElement extends FakePsiElement {
+        private final PsiElement parent;
+        private final ExtendedConfigDescriptionBuildItem item;
+
+        private ConfigItemElement(PsiElement parent, ExtendedConfigDescriptionBuildItem item) {
+            this.parent = parent;
+            this.item = item;
+        }
+
+        @Override
+        public PsiElement getParent() {
+            return parent;
+        }
+
+        @Override
+        public String getName() {
+            return item.getPropertyName();
+        }
+    }
+
+    @Override
+    public PsiElement getDocumentationElementForLookupItem(PsiManager psiManager, Object object, PsiElement element) {
+        return object instanceof ExtendedConfigDescriptionBuildItem ? new ConfigItemElement(element, (ExtendedConfigDescriptionBuildItem) object) : null;
+    }
+
+    @Nullable
+    @Override
+    public String generateDoc(PsiElement element, @Nullable PsiElement originalElement) {
+        ExtendedConfigDescriptionBuildItem item = element instanceof ConfigItemElement ? ((ConfigItemElement) element).item : getItem(originalElement);
+        return item != null ? generateDoc(item) : null;
+    }
+
+    @Nullable
+    private static ExtendedConfigDescriptionBuildItem getItem(@Nullable PsiElement element) {
+        ApplicationPropertiesKey key = PsiTreeUtil.getParentOfType(element, ApplicationPropertiesKey.class, false);
+        Module module = key != null ? ModuleUtilCore.findModuleForPsiElement(key) : null;
+        if (module == null) {
+            return null;
+        }
+        QuarkusConfigSnapshot snapshot = QuarkusConfigMetadataService.getInstance(module.getProject()).getLastKnownSnapshot(module);
+        return snapshot != null ? snapshot.getKeyTrie().match(key.getText()) : null;
+    }
+
+    private static String generateDoc(ExtendedConfigDescriptionBuildItem item) {
+        StringBuilder builder = new StringBuilder("<div class='definition'><pre><b>").append(StringUtil.escapeXml(item.getPropertyName())).append("</b>");
+        if (item.getType() != null) {
+            builder.append(" : ").append(StringUtil.escapeXml(item.getType()));
+        }
+        builder.append("</pre></div><div class='content'>");
+        QuarkusJavadocRenderer.RenderedDoc doc = QuarkusJavadocRenderer.INSTANCE.render(item.getLocation(), item.getSource(), item.getDocs());
+        if (doc != null) {
+            builder.append(doc.getHtml());
+        }
+        builder.append("</div><table class='sections'>");
+        if (item.getDefaultValue() != null) {
+            appendSection(builder, "Default", item.getDefaultValue());
+        }
+        if (item.getExtensionName() != null) {
+            appendSection(builder, "Extension", item.getExtensionName());
+        }
+        return builder.append("</table>").toString();
+    }
+
+    private static void appendSection(StringBuilder builder, String name, String value) {
+        builder.append("<tr><td valign='top' class='section'><p>").append(name).append(":</td><td valign='top'><code>")
+                .append(StringUtil.escapeXml(value)).append("</code></td></tr>");
+    }
+}
@@ -0,0 +1,124 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesExpressions;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the <code>${...}</code> expressions of Quarkus properties files. The index key is the referenced property
+ * name and the value the offsets of the name in the file. Files are indexed with the lexer only, no PSI is built.
+ */
+public class ApplicationPropertiesExpressionIndex extends FileBasedIndexExtension<String, List<Integer>> {
+    public static final ID<String, List<Integer>> NAME = ID.create("quarkus.properties.expressions");
+
+    private static final DataExternalizer<List<Integer>> EXTERNALIZER = new DataExternalizer<List<Integer>>() {
+        @Override
+        public void save(@NotNull DataOutput out, List<Integer> offsets) throws IOException {
+            DataInputOutputUtil.writeINT(out, offsets.size());
+            for (int offset : offsets) {
+                DataInputOutputUtil.writeINT(out, offset);
+            }
+        }
+
+        @Override
+        public List<Integer> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            List<Integer> offsets = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                offsets.add(DataInputOutputUtil.readINT(in));
+            }
+            return offsets;
+        }
+    };
+
+    private static final DataIndexer<String, List<Integer>, FileContent> INDEXER = inputData -> {
+        Map<String, List<Integer>> result = new HashMap<>();
+        ApplicationPropertiesLexer lexer = new ApplicationPropertiesLexer();
+        CharSequence text = inputData.getContentAsText();
+        lexer.start(text);
+        for (IElementType type = lexer.getTokenType(); type != null; lexer.advance(), type = lexer.getTokenType()) {
+            if (type == ApplicationPropertiesTypes.VALUE) {
+                int start = lexer.getTokenStart();
+                for (ApplicationPropertiesExpressions.Expression expression : ApplicationPropertiesExpressions.parse(text.subSequence(start, lexer.getTokenEnd()))) {
+                    result.computeIfAbsent(expression.getName(), k -> new ArrayList<>()).add(start + expression.getOffset());
+                }
+            }
+        }
+        return result;
+    };
+
+    @NotNull
+    @Override
+    public ID<String, List<Integer>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+        return INDEXER;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<Integer>> getValueExternalizer() {
+        return EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(ApplicationPropertiesFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param name the property name
+     * @param scope the scope
+     * @return the offsets of the expressions referencing the property, per file
+     */
+    public static Map<VirtualFile, List<Integer>> getOccurrences(String name, GlobalSearchScope scope) {
+        Map<VirtualFile, List<Integer>> result = new HashMap<>();
+        FileBasedIndex.getInstance().processValues(NAME, name, null, (file, offsets) -> {
+            result.computeIfAbsent(file, f -> new ArrayList<>()).addAll(offsets);
+            return true;
+        }, scope);
+        return result;
+    }
+}
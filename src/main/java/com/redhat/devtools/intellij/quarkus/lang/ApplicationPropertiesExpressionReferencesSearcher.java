@@ -0,0 +1,62 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiSearchScopeUtil;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.Processor;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Find the <code>${...}</code> expressions referencing a key of a Quarkus properties file, with
+ * {@link ApplicationPropertiesExpressionIndex}. Used by find usages and rename.
+ */
+public class ApplicationPropertiesExpressionReferencesSearcher extends QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters> {
+    public ApplicationPropertiesExpressionReferencesSearcher() {
+        super(true);
+    }
+
+    @Override
+    public void processQuery(@NotNull ReferencesSearch.SearchParameters queryParameters, @NotNull Processor<? super PsiReference> consumer) {
+        PsiElement element = queryParameters.getElementToSearch();
+        if (!(element instanceof ApplicationPropertiesKey)) {
+            return;
+        }
+        SearchScope searchScope = queryParameters.getEffectiveSearchScope();
+        GlobalSearchScope scope = ApplicationPropertiesReferencesSearcher.getIndexScope(element.getProject(), searchScope);
+        if (scope == null) {
+            return;
+        }
+        PsiManager manager = element.getManager();
+        for (Map.Entry<VirtualFile, List<Integer>> entry : ApplicationPropertiesExpressionIndex.getOccurrences(((ApplicationPropertiesKey) element).getName(), scope).entrySet()) {
+            PsiFile file = manager.findFile(entry.getKey());
+            if (file == null) {
+                continue;
+            }
+            for (int offset : entry.getValue()) {
+                ApplicationPropertiesProperty property = PsiTreeUtil.getParentOfType(file.findElementAt(offset), ApplicationPropertiesProperty.class);
+                if (property == null || !PsiSearchScopeUtil.isInScope(searchScope, property)) {
+                    continue;
+                }
+                int propertyOffset = property.getTextRange().getStartOffset();
+                for (PsiReference reference : property.getReferences()) {
+                    if (reference.getRangeInElement().getStartOffset() + propertyOffset == offset && reference.isReferenceTo(element) && !consumer.process(reference)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.lang.cacheBuilder.WordsScanner;
+import com.intellij.lang.findUsages.FindUsagesProvider;
+import com.intellij.psi.PsiElement;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Find the usages of the keys of Quarkus properties files. The <code>${...}</code> expressions referencing a key are
+ * found by {@link ApplicationPropertiesExpressionReferencesSearcher}, so no words scanner is needed.
+ */
+public class ApplicationPropertiesFindUsagesProvider implements FindUsagesProvider {
+    @Nullable
+    @Override
+    public WordsScanner getWordsScanner() {
+        return null;
+    }
+
+    @Override
+    public boolean canFindUsagesFor(@NotNull PsiElement psiElement) {
+        return psiElement instanceof ApplicationPropertiesKey;
+    }
+
+    @Nullable
+    @Override
+    public String getHelpId(@NotNull PsiElement psiElement) {
+        return null;
+    }
+
+    @NotNull
+    @Override
+    public String getType(@NotNull PsiElement element) {
+        return "Quarkus property";
+    }
+
+    @NotNull
+    @Override
+    public String getDescriptiveName(@NotNull PsiElement element) {
+        return element instanceof ApplicationPropertiesKey ? element.getText() : "";
+    }
+
+    @NotNull
+    @Override
+    public String getNodeText(@NotNull PsiElement element, boolean useFullName) {
+        PsiElement parent = element.getParent();
+        if (useFullName && parent instanceof ApplicationPropertiesProperty && ((ApplicationPropertiesProperty) parent).getProfile() != null) {
+            return "%" + ((ApplicationPropertiesProperty) parent).getProfile() + "." + element.getText();
+        }
+        return getDescriptiveName(element);
+    }
+}
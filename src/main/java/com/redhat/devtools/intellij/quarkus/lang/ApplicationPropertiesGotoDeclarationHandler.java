@@ -0,0 +1,70 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.codeInsight.navigation.actions.GotoDeclarationHandler;
+import com.intellij.openapi.actionSystem.DataContext;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigMetadataService;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Navigate from a key of a Quarkus properties file to the <code>@ConfigItem</code> field defining it. The field
+ * pointers are collected with the config metadata, so navigation is a lookup in the snapshot; the source of the item
+ * is only resolved for snapshots loaded from disk or when the pointer was invalidated.
+ */
+public class ApplicationPropertiesGotoDeclarationHandler implements GotoDeclarationHandler {
+    @Nullable
+    @Override
+    public PsiElement[] getGotoDeclarationTargets(@Nullable PsiElement sourceElement, int offset, Editor editor) {
+        ApplicationPropertiesKey key = PsiTreeUtil.getParentOfType(sourceElement, ApplicationPropertiesKey.class);
+        Module module = key != null ? ModuleUtilCore.findModuleForPsiElement(key) : null;
+        if (module == null) {
+            return null;
+        }
+        QuarkusConfigSnapshot snapshot = QuarkusConfigMetadataService.getInstance(module.getProject()).getLastKnownSnapshot(module);
+        ExtendedConfigDescriptionBuildItem item = snapshot != null ? snapshot.getKeyTrie().match(key.getText()) : null;
+        if (item == null) {
+            return null;
+        }
+        SmartPsiElementPointer<PsiField> pointer = snapshot.getField(item.getPropertyName());
+        PsiField field = pointer != null ? pointer.getElement() : null;
+        if (field == null) {
+            // snapshot loaded from disk or field invalidated since the snapshot was computed
+            field = resolveSource(module, item.getSource());
+        }
+        return field != null ? new PsiElement[] { field } : null;
+    }
+
+    /**
+     * @param module the module
+     * @param source the source of a config item: <code>class#field</code>
+     * @return the field or null if it cannot be found
+     */
+    @Nullable
+    private static PsiField resolveSource(Module module, @Nullable String source) {
+        int index = source != null ? source.indexOf('#') : -1;
+        if (index == -1) {
+            return null;
+        }
+        PsiClass psiClass = JavaPsiFacade.getInstance(module.getProject()).findClass(source.substring(0, index),
+                GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
+        return psiClass != null ? psiClass.findFieldByName(source.substring(index + 1), true) : null;
+    }
+
+    @Nullable
+    @Override
+    public String getActionText(DataContext context) {
+        return null;
+    }
+}
@@ -0,0 +1,231 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Index of the keys defined in Quarkus properties files. The index key is the property key without profile and the
+ * value the occurrences of the key in the file (profile and offset of the key). Files are indexed with the lexer only,
+ * no PSI is built.
+ */
+public class ApplicationPropertiesKeyIndex extends FileBasedIndexExtension<String, List<ApplicationPropertiesKeyIndex.Occurrence>> {
+    public static final ID<String, List<Occurrence>> NAME = ID.create("quarkus.properties.keys");
+
+    /**
+     * An occurrence of a key in a file.
+     */
+    public static class Occurrence {
+        private final String profile;
+        private final int offset;
+
+        public Occurrence(@Nullable String profile, int offset) {
+            this.profile = profile;
+            this.offset = offset;
+        }
+
+        /**
+         * @return the profile without the leading % or null if the key has no profile
+         */
+        @Nullable
+        public String getProfile() {
+            return profile;
+        }
+
+        /**
+         * @return the offset of the key (after the profile) in the file
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Occurrence that = (Occurrence) o;
+            return offset == that.offset && Objects.equals(profile, that.profile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(profile, offset);
+        }
+    }
+
+    private static final DataExternalizer<List<Occurrence>> EXTERNALIZER = new DataExternalizer<List<Occurrence>>() {
+        @Override
+        public void save(@NotNull DataOutput out, List<Occurrence> occurrences) throws IOException {
+            DataInputOutputUtil.writeINT(out, occurrences.size());
+            for (Occurrence occurrence : occurrences) {
+                out.writeBoolean(occurrence.profile != null);
+                if (occurrence.profile != null) {
+                    IOUtil.writeUTF(out, occurrence.profile);
+                }
+                DataInputOutputUtil.writeINT(out, occurrence.offset);
+            }
+        }
+
+        @Override
+        public List<Occurrence> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            List<Occurrence> occurrences = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                String profile = in.readBoolean() ? IOUtil.readUTF(in) : null;
+                occurrences.add(new Occurrence(profile, DataInputOutputUtil.readINT(in)));
+            }
+            return occurrences;
+        }
+    };
+
+    private static final DataIndexer<String, List<Occurrence>, FileContent> INDEXER = inputData -> {
+        Map<String, List<Occurrence>> result = new HashMap<>();
+        ApplicationPropertiesLexer lexer = new ApplicationPropertiesLexer();
+        CharSequence text = inputData.getContentAsText();
+        lexer.start(text);
+        String profile = null;
+        int keyStart = -1;
+        int keyEnd = -1;
+        for (IElementType type = lexer.getTokenType(); type != null; lexer.advance(), type = lexer.getTokenType()) {
+            if (type == ApplicationPropertiesTypes.PROFILE) {
+                profile = text.subSequence(lexer.getTokenStart() + 1, lexer.getTokenEnd()).toString();
+            } else if (type == ApplicationPropertiesTypes.KEY_SEGMENT || (type == ApplicationPropertiesTypes.DOT && keyStart != -1)) {
+                if (keyStart == -1) {
+                    keyStart = lexer.getTokenStart();
+                }
+                keyEnd = lexer.getTokenEnd();
+            } else if (type != ApplicationPropertiesTypes.DOT) {
+                // end of the key, the dot following a profile is skipped
+                if (keyStart != -1) {
+                    String key = text.subSequence(keyStart, keyEnd).toString();
+                    result.computeIfAbsent(key, k -> new ArrayList<>()).add(new Occurrence(profile, keyStart));
+                }
+                profile = null;
+                keyStart = -1;
+            }
+        }
+        if (keyStart != -1) {
+            result.computeIfAbsent(text.subSequence(keyStart, keyEnd).toString(), k -> new ArrayList<>()).add(new Occurrence(profile, keyStart));
+        }
+        return result;
+    };
+
+    @NotNull
+    @Override
+    public ID<String, List<Occurrence>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<Occurrence>, FileContent> getIndexer() {
+        return INDEXER;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<Occurrence>> getValueExternalizer() {
+        return EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(ApplicationPropertiesFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param key the key without profile
+     * @param scope the scope
+     * @return the occurrences of the key per file
+     */
+    public static Map<VirtualFile, List<Occurrence>> getOccurrences(String key, GlobalSearchScope scope) {
+        Map<VirtualFile, List<Occurrence>> result = new HashMap<>();
+        FileBasedIndex.getInstance().processValues(NAME, key, null, (file, occurrences) -> {
+            result.computeIfAbsent(file, f -> new ArrayList<>()).addAll(occurrences);
+            return true;
+        }, scope);
+        return result;
+    }
+
+    /**
+     * @param key the key without profile
+     * @param scope the scope
+     * @return the files defining the key
+     */
+    public static Collection<VirtualFile> getFiles(String key, GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles(NAME, key, scope);
+    }
+
+    /**
+     * @param key the key without profile
+     * @param scope the scope
+     * @return the profiles overriding the key, without the leading %
+     */
+    public static Set<String> getProfiles(String key, GlobalSearchScope scope) {
+        Set<String> profiles = new LinkedHashSet<>();
+        for (List<Occurrence> occurrences : FileBasedIndex.getInstance().getValues(NAME, key, scope)) {
+            for (Occurrence occurrence : occurrences) {
+                if (occurrence.getProfile() != null) {
+                    profiles.add(occurrence.getProfile());
+                }
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * @param project the project
+     * @return the keys defined in the Quarkus properties files of the project
+     */
+    public static Collection<String> getKeys(Project project) {
+        return FileBasedIndex.getInstance().getAllKeys(NAME, project);
+    }
+}
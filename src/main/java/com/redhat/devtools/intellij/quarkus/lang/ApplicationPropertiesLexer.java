@@ -0,0 +1,216 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.lexer.LexerBase;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.COMMENT;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.DOT;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.KEY_SEGMENT;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.PROFILE;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.SEPARATOR;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.VALUE;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.WHITE_SPACE;
+
+/**
+ * Fine grained lexer of Quarkus properties files: comments, then for each property its optional profile
+ * (<code>%dev</code>), the key segments separated by dots (a segment may be quoted), the separator and the value
+ * (including continuation lines). Lexing restarts at each line start (state 0), which makes the highlighting
+ * incremental.
+ */
+public class ApplicationPropertiesLexer extends LexerBase {
+    private static final int LINE_START = 0;
+    private static final int IN_KEY = 1;
+    private static final int IN_VALUE = 2;
+
+    private CharSequence buffer;
+    private int endOffset;
+    private int tokenStart;
+    private int tokenEnd;
+    private int tokenState;
+    private int state;
+    private IElementType tokenType;
+
+    @Override
+    public void start(@NotNull CharSequence buffer, int startOffset, int endOffset, int initialState) {
+        this.buffer = buffer;
+        this.endOffset = endOffset;
+        this.tokenEnd = startOffset;
+        this.state = initialState;
+        advance();
+    }
+
+    @Override
+    public int getState() {
+        return tokenState;
+    }
+
+    @Nullable
+    @Override
+    public IElementType getTokenType() {
+        return tokenType;
+    }
+
+    @Override
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    @Override
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    @NotNull
+    @Override
+    public CharSequence getBufferSequence() {
+        return buffer;
+    }
+
+    @Override
+    public int getBufferEnd() {
+        return endOffset;
+    }
+
+    @Override
+    public void advance() {
+        tokenStart = tokenEnd;
+        tokenState = state;
+        if (tokenStart >= endOffset) {
+            tokenType = null;
+            return;
+        }
+        char c = buffer.charAt(tokenStart);
+        if (isNewLine(c)) {
+            state = LINE_START;
+            tokenState = state;
+        }
+        switch (state) {
+            case LINE_START:
+                lexLineStart(c);
+                break;
+            case IN_KEY:
+                lexKey(c);
+                break;
+            default:
+                lexValue();
+        }
+    }
+
+    private void lexLineStart(char c) {
+        if (Character.isWhitespace(c)) {
+            tokenEnd = skipWhitespaces(tokenStart, true);
+            tokenType = WHITE_SPACE;
+        } else if (c == '#' || c == '!') {
+            tokenEnd = skipToEndOfLine(tokenStart);
+            tokenType = COMMENT;
+        } else if (c == '%') {
+            tokenEnd = skipKeySegment(tokenStart + 1);
+            tokenType = PROFILE;
+            state = IN_KEY;
+        } else {
+            lexKey(c);
+        }
+    }
+
+    private void lexKey(char c) {
+        state = IN_KEY;
+        if (c == '.') {
+            tokenEnd = tokenStart + 1;
+            tokenType = DOT;
+        } else if (c == '=' || c == ':' || Character.isWhitespace(c)) {
+            int offset = skipWhitespaces(tokenStart, false);
+            if (offset < endOffset && (buffer.charAt(offset) == '=' || buffer.charAt(offset) == ':')) {
+                offset = skipWhitespaces(offset + 1, false);
+            }
+            tokenEnd = offset;
+            tokenType = SEPARATOR;
+            state = IN_VALUE;
+        } else if (c == '"') {
+            int offset = tokenStart + 1;
+            while (offset < endOffset && buffer.charAt(offset) != '"' && !isNewLine(buffer.charAt(offset))) {
+                offset++;
+            }
+            tokenEnd = offset < endOffset && buffer.charAt(offset) == '"' ? offset + 1 : offset;
+            tokenType = KEY_SEGMENT;
+        } else {
+            tokenEnd = skipKeySegment(tokenStart);
+            tokenType = KEY_SEGMENT;
+        }
+    }
+
+    private void lexValue() {
+        int offset = tokenStart;
+        while (true) {
+            int lineEnd = skipToEndOfLine(offset);
+            if (lineEnd < endOffset && isContinued(offset, lineEnd)) {
+                // the value continues on the next line
+                offset = skipNewLine(lineEnd);
+            } else {
+                tokenEnd = lineEnd;
+                break;
+            }
+        }
+        tokenType = VALUE;
+        state = LINE_START;
+    }
+
+    /**
+     * @return true if the line ends with an odd number of backslashes
+     */
+    private boolean isContinued(int lineStart, int lineEnd) {
+        int count = 0;
+        for (int offset = lineEnd - 1; offset >= lineStart && buffer.charAt(offset) == '\\'; --offset) {
+            count++;
+        }
+        return count % 2 == 1;
+    }
+
+    private int skipKeySegment(int offset) {
+        while (offset < endOffset) {
+            char c = buffer.charAt(offset);
+            if (c == '\\' && offset + 1 < endOffset && !isNewLine(buffer.charAt(offset + 1))) {
+                offset += 2;
+            } else if (c == '.' || c == '=' || c == ':' || Character.isWhitespace(c)) {
+                break;
+            } else {
+                offset++;
+            }
+        }
+        return offset;
+    }
+
+    private int skipWhitespaces(int offset, boolean newLines) {
+        while (offset < endOffset) {
+            char c = buffer.charAt(offset);
+            if (Character.isWhitespace(c) && (newLines || !isNewLine(c))) {
+                offset++;
+            } else {
+                break;
+            }
+        }
+        return offset;
+    }
+
+    private int skipToEndOfLine(int offset) {
+        while (offset < endOffset && !isNewLine(buffer.charAt(offset))) {
+            offset++;
+        }
+        return offset;
+    }
+
+    private int skipNewLine(int offset) {
+        if (offset < endOffset && buffer.charAt(offset) == '\r') {
+            offset++;
+        }
+        if (offset < endOffset && buffer.charAt(offset) == '\n') {
+            offset++;
+        }
+        return offset;
+    }
+
+    private static boolean isNewLine(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
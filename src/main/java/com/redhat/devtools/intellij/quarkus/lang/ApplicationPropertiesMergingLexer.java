@@ -0,0 +1,38 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.lexer.MergeFunction;
+import com.intellij.lexer.MergingLexerAdapterBase;
+import com.intellij.psi.tree.IElementType;
+
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.PROPERTY;
+import static com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes.PROPERTY_TOKENS;
+
+/**
+ * Merge the tokens of each property (profile, key, separator and value) into a single lazily parsed
+ * {@link com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes#PROPERTY} token.
+ */
+public class ApplicationPropertiesMergingLexer extends MergingLexerAdapterBase {
+    private static final MergeFunction MERGE_FUNCTION = (type, originalLexer) -> {
+        if (!PROPERTY_TOKENS.contains(type)) {
+            return type;
+        }
+        while (PROPERTY_TOKENS.contains(originalLexer.getTokenType())) {
+            originalLexer.advance();
+        }
+        return PROPERTY;
+    };
+
+    public ApplicationPropertiesMergingLexer() {
+        this(new ApplicationPropertiesLexer());
+    }
+
+    public ApplicationPropertiesMergingLexer(Lexer original) {
+        super(original);
+    }
+
+    @Override
+    public MergeFunction getMergeFunction() {
+        return MERGE_FUNCTION;
+    }
+}
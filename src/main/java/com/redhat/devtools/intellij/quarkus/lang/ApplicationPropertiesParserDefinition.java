@@ -0,0 +1,84 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.ParserDefinition;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiParser;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.FileViewProvider;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.tree.IFileElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesFile;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The file level is a flat list of comments and properties, each property is a lazily parsed token (see
+ * {@link com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesPropertyElementType}).
+ */
+public class ApplicationPropertiesParserDefinition implements ParserDefinition {
+    @NotNull
+    @Override
+    public Lexer createLexer(Project project) {
+        return new ApplicationPropertiesMergingLexer();
+    }
+
+    @Override
+    public PsiParser createParser(Project project) {
+        return (root, builder) -> {
+            PsiBuilder.Marker file = builder.mark();
+            while (!builder.eof()) {
+                builder.advanceLexer();
+            }
+            file.done(root);
+            return builder.getTreeBuilt();
+        };
+    }
+
+    @Override
+    public IFileElementType getFileNodeType() {
+        return ApplicationPropertiesTypes.FILE;
+    }
+
+    @NotNull
+    @Override
+    public TokenSet getWhitespaceTokens() {
+        return ApplicationPropertiesTypes.WHITE_SPACES;
+    }
+
+    @NotNull
+    @Override
+    public TokenSet getCommentTokens() {
+        return ApplicationPropertiesTypes.COMMENTS;
+    }
+
+    @NotNull
+    @Override
+    public TokenSet getStringLiteralElements() {
+        return TokenSet.EMPTY;
+    }
+
+    @NotNull
+    @Override
+    public PsiElement createElement(ASTNode node) {
+        if (node.getElementType() == ApplicationPropertiesTypes.KEY) {
+            return new ApplicationPropertiesKey(node);
+        }
+        return new ASTWrapperPsiElement(node);
+    }
+
+    @Override
+    public PsiFile createFile(FileViewProvider viewProvider) {
+        return new ApplicationPropertiesFile(viewProvider);
+    }
+
+    @Override
+    public SpaceRequirements spaceExistanceTypeBetweenTokens(ASTNode left, ASTNode right) {
+        return SpaceRequirements.MAY;
+    }
+}
@@ -0,0 +1,179 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceBase;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.LocalSearchScope;
+import com.intellij.psi.search.PsiSearchScopeUtil;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.IncorrectOperationException;
+import com.intellij.util.Processor;
+import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigKeyTrie;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigMetadataService;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import io.quarkus.runtime.annotations.ConfigItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.quarkus.runtime.util.StringUtil.hyphenate;
+
+/**
+ * Find the keys of the Quarkus properties files set by a <code>@ConfigItem</code> field. The property names of the
+ * field come from the config metadata of the modules and their occurrences from {@link ApplicationPropertiesKeyIndex}.
+ * Renaming the field only renames the segment of the keys derived from its name.
+ */
+public class ApplicationPropertiesReferencesSearcher extends QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters> {
+    public ApplicationPropertiesReferencesSearcher() {
+        super(true);
+    }
+
+    @Override
+    public void processQuery(@NotNull ReferencesSearch.SearchParameters queryParameters, @NotNull Processor<? super PsiReference> consumer) {
+        PsiElement element = queryParameters.getElementToSearch();
+        if (!(element instanceof PsiField) || !((PsiField) element).hasAnnotation(QuarkusConstants.CONFIG_ITEM_ANNOTATION)) {
+            return;
+        }
+        PsiField field = (PsiField) element;
+        PsiClass containingClass = field.getContainingClass();
+        if (containingClass == null) {
+            return;
+        }
+        Project project = field.getProject();
+        String source = containingClass.getQualifiedName() + "#" + field.getName();
+        SearchScope searchScope = queryParameters.getEffectiveSearchScope();
+        GlobalSearchScope scope = getIndexScope(project, searchScope);
+        if (scope == null) {
+            return;
+        }
+        for (ExtendedConfigDescriptionBuildItem item : getItems(project, source)) {
+            String name = item.getPropertyName();
+            if (name.contains(QuarkusConfigKeyTrie.WILDCARD)) {
+                QuarkusConfigKeyTrie trie = new QuarkusConfigKeyTrie(Collections.singletonList(item));
+                for (String key : ApplicationPropertiesKeyIndex.getKeys(project)) {
+                    if (trie.match(key) != null && !process(field, key, scope, searchScope, consumer)) {
+                        return;
+                    }
+                }
+            } else if (!process(field, name, scope, searchScope, consumer)) {
+                return;
+            }
+        }
+    }
+
+    private static Set<ExtendedConfigDescriptionBuildItem> getItems(Project project, String source) {
+        Set<ExtendedConfigDescriptionBuildItem> items = new LinkedHashSet<>();
+        QuarkusConfigMetadataService service = QuarkusConfigMetadataService.getInstance(project);
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            if (QuarkusModuleUtil.isQuarkusModule(module)) {
+                QuarkusConfigSnapshot snapshot = service.getLastKnownSnapshot(module);
+                if (snapshot != null) {
+                    for (ExtendedConfigDescriptionBuildItem item : snapshot.getConfigItems()) {
+                        if (source.equals(item.getSource())) {
+                            items.add(item);
+                        }
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * @param project the project
+     * @param searchScope the scope of a search
+     * @return the scope of the index lookup: the search scope or the Quarkus properties files of a local search scope,
+     * null if a local search scope has none
+     */
+    @Nullable
+    static GlobalSearchScope getIndexScope(Project project, SearchScope searchScope) {
+        if (searchScope instanceof GlobalSearchScope) {
+            return (GlobalSearchScope) searchScope;
+        }
+        List<VirtualFile> files = new ArrayList<>();
+        for (VirtualFile file : ((LocalSearchScope) searchScope).getVirtualFiles()) {
+            if (file.getFileType() == ApplicationPropertiesFileType.INSTANCE) {
+                files.add(file);
+            }
+        }
+        return files.isEmpty() ? null : GlobalSearchScope.filesScope(project, files);
+    }
+
+    private static boolean process(PsiField field, String key, GlobalSearchScope scope, SearchScope searchScope, Processor<? super PsiReference> consumer) {
+        PsiManager manager = field.getManager();
+        for (Map.Entry<VirtualFile, List<ApplicationPropertiesKeyIndex.Occurrence>> entry : ApplicationPropertiesKeyIndex.getOccurrences(key, scope).entrySet()) {
+            PsiFile file = manager.findFile(entry.getKey());
+            if (file == null) {
+                continue;
+            }
+            for (ApplicationPropertiesKeyIndex.Occurrence occurrence : entry.getValue()) {
+                ApplicationPropertiesKey keyElement = PsiTreeUtil.getParentOfType(file.findElementAt(occurrence.getOffset()), ApplicationPropertiesKey.class);
+                // a local search scope may only contain a part of the file
+                if (keyElement != null && PsiSearchScopeUtil.isInScope(searchScope, keyElement) && !consumer.process(new PsiReferenceBase<ApplicationPropertiesKey>(keyElement, TextRange.allOf(keyElement.getText())) {
+                    @Override
+                    public PsiElement resolve() {
+                        return field;
+                    }
+
+                    @Override
+                    public PsiElement handleElementRename(@NotNull String newElementName) throws IncorrectOperationException {
+                        return renameKey(myElement, field, newElementName);
+                    }
+                })) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rename the last segment of the key when it is the name of the field. Keys of fields with an explicit name or
+     * ending with a map key are left unchanged.
+     */
+    private static PsiElement renameKey(ApplicationPropertiesKey key, PsiField field, String newFieldName) {
+        PsiAnnotation annotation = field.getAnnotation(QuarkusConstants.CONFIG_ITEM_ANNOTATION);
+        String name = annotation != null ? AnnotationUtil.getStringAttributeValue(annotation, "name") : null;
+        String oldSegment;
+        String newSegment;
+        if (name == null || ConfigItem.HYPHENATED_ELEMENT_NAME.equals(name)) {
+            oldSegment = hyphenate(field.getName());
+            newSegment = hyphenate(newFieldName);
+        } else if (ConfigItem.ELEMENT_NAME.equals(name)) {
+            oldSegment = field.getName();
+            newSegment = newFieldName;
+        } else {
+            return key;
+        }
+        String text = key.getText();
+        if (!text.endsWith("." + oldSegment)) {
+            return key;
+        }
+        return key.setName(text.substring(0, text.length() - oldSegment.length()) + newSegment);
+    }
+}
@@ -0,0 +1,50 @@
+package com.redhat.devtools.intellij.quarkus.lang;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.editor.DefaultLanguageHighlighterColors;
+import com.intellij.openapi.editor.HighlighterColors;
+import com.intellij.openapi.editor.colors.TextAttributesKey;
+import com.intellij.openapi.fileTypes.SyntaxHighlighterBase;
+import com.intellij.psi.tree.IElementType;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.intellij.openapi.editor.colors.TextAttributesKey.createTextAttributesKey;
+
+/**
+ * Highlight Quarkus properties files with the fine grained lexer, which restarts at each line.
+ */
+public class ApplicationPropertiesSyntaxHighlighter extends SyntaxHighlighterBase {
+    public static final TextAttributesKey COMMENT = createTextAttributesKey("QUARKUS_PROPERTIES_COMMENT", DefaultLanguageHighlighterColors.LINE_COMMENT);
+    public static final TextAttributesKey PROFILE = createTextAttributesKey("QUARKUS_PROPERTIES_PROFILE", DefaultLanguageHighlighterColors.METADATA);
+    public static final TextAttributesKey KEY = createTextAttributesKey("QUARKUS_PROPERTIES_KEY", DefaultLanguageHighlighterColors.KEYWORD);
+    public static final TextAttributesKey SEPARATOR = createTextAttributesKey("QUARKUS_PROPERTIES_SEPARATOR", DefaultLanguageHighlighterColors.OPERATION_SIGN);
+    public static final TextAttributesKey VALUE = createTextAttributesKey("QUARKUS_PROPERTIES_VALUE", DefaultLanguageHighlighterColors.STRING);
+
+    private static final Map<IElementType, TextAttributesKey> ATTRIBUTES = new HashMap<>();
+
+    static {
+        ATTRIBUTES.put(ApplicationPropertiesTypes.COMMENT, COMMENT);
+        ATTRIBUTES.put(ApplicationPropertiesTypes.PROFILE, PROFILE);
+        ATTRIBUTES.put(ApplicationPropertiesTypes.KEY_SEGMENT, KEY);
+        ATTRIBUTES.put(ApplicationPropertiesTypes.DOT, KEY);
+        ATTRIBUTES.put(ApplicationPropertiesTypes.SEPARATOR, SEPARATOR);
+        ATTRIBUTES.put(ApplicationPropertiesTypes.VALUE, VALUE);
+        ATTRIBUTES.put(ApplicationPropertiesTypes.BAD_CHARACTER, HighlighterColors.BAD_CHARACTER);
+    }
+
+    @NotNull
+    @Override
+    public Lexer getHighlightingLexer() {
+        return new ApplicationPropertiesLexer();
+    }
+
+    @NotNull
+    @Override
+    public TextAttributesKey[] getTokenHighlights(IElementType tokenType) {
+        return pack(ATTRIBUTES.get(tokenType));
+    }
+}
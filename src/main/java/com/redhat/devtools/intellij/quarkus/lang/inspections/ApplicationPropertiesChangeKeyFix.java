@@ -0,0 +1,97 @@
+package com.redhat.devtools.intellij.quarkus.lang.inspections;
+
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Replace an unknown key by a known one. The nearest known keys are only looked up when the fix is applied, so the
+ * highlighting of the unknown keys does not query the edit distance index. The lookup runs under a cancellable progress
+ * and the user chooses among the suggestions when there are several.
+ */
+public class ApplicationPropertiesChangeKeyFix implements LocalQuickFix {
+    private static final int MAX_SUGGESTIONS = 5;
+
+    private final QuarkusConfigSnapshot snapshot;
+
+    public ApplicationPropertiesChangeKeyFix(QuarkusConfigSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @NotNull
+    @Override
+    public String getFamilyName() {
+        return "Change to a known Quarkus property";
+    }
+
+    @Override
+    public boolean startInWriteAction() {
+        return false;
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+        PsiElement element = descriptor.getPsiElement();
+        if (element == null) {
+            return;
+        }
+        String unknownKey = element.getText();
+        // the edit distance index is built on the first lookup, which can take a while for large snapshots
+        List<String> suggestions;
+        try {
+            suggestions = ProgressManager.getInstance().runProcessWithProgressSynchronously(
+                    () -> snapshot.getKeyBKTree().suggest(unknownKey, MAX_SUGGESTIONS), "Looking for known Quarkus properties", true, project);
+        } catch (ProcessCanceledException e) {
+            return;
+        }
+        SmartPsiElementPointer<PsiElement> pointer = SmartPointerManager.createPointer(element);
+        Editor editor = FileEditorManager.getInstance(project).getSelectedTextEditor();
+        if (suggestions.isEmpty()) {
+            if (editor != null) {
+                JBPopupFactory.getInstance().createMessage("No known Quarkus property is near '" + unknownKey + "'").showInBestPositionFor(editor);
+            }
+        } else if (suggestions.size() == 1 || editor == null || ApplicationManager.getApplication().isUnitTestMode()) {
+            changeKey(project, pointer, suggestions.get(0));
+        } else {
+            JBPopupFactory.getInstance().createPopupChooserBuilder(suggestions)
+                    .setTitle("Change to")
+                    .setItemChosenCallback(key -> changeKey(project, pointer, key))
+                    .createPopup()
+                    .showInBestPositionFor(editor);
+        }
+    }
+
+    private static void changeKey(Project project, SmartPsiElementPointer<PsiElement> pointer, String key) {
+        PsiElement element = pointer.getElement();
+        if (element == null) {
+            return;
+        }
+        PsiFile file = element.getContainingFile();
+        Document document = PsiDocumentManager.getInstance(project).getDocument(file);
+        if (document != null) {
+            WriteCommandAction.runWriteCommandAction(project, "Change to '" + key + "'", null, () -> {
+                TextRange range = element.getTextRange();
+                document.replaceString(range.getStartOffset(), range.getEndOffset(), key);
+                PsiDocumentManager.getInstance(project).commitDocument(document);
+            }, file);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.redhat.devtools.intellij.quarkus.lang.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesExpressionReference;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesExpressions;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesProperty;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigMetadataService;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Report the <code>${...}</code> expressions referencing a property defined nowhere and the cyclic references.
+ * Expressions with a default value, environment variables (<code>DB_URL</code>) and properties having a default
+ * value in the config metadata are not reported as undefined. Definitions are found with the key index. Cycles are
+ * looked for in the profile of the property: a profile definition replaces the definition without profile.
+ */
+public class ApplicationPropertiesExpressionInspection extends LocalInspectionTool {
+    private static final Pattern ENV_STYLE = Pattern.compile("[A-Z0-9_]+");
+
+    private static final int MAX_DEPTH = 64;
+
+    @NotNull
+    @Override
+    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        Module module = ModuleUtilCore.findModuleForPsiElement(holder.getFile());
+        QuarkusConfigSnapshot snapshot = module != null ? QuarkusConfigMetadataService.getInstance(module.getProject()).getLastKnownSnapshot(module) : null;
+        // names referenced by the definitions of a property in a profile, shared by the properties of the file
+        Map<String, Set<String>> edges = new HashMap<>();
+        return new PsiElementVisitor() {
+            @Override
+            public void visitElement(PsiElement element) {
+                if (!(element instanceof ApplicationPropertiesProperty)) {
+                    return;
+                }
+                String key = ((ApplicationPropertiesProperty) element).getKey();
+                String profile = ((ApplicationPropertiesProperty) element).getProfile();
+                for (PsiReference reference : element.getReferences()) {
+                    if (!(reference instanceof ApplicationPropertiesExpressionReference)) {
+                        continue;
+                    }
+                    ApplicationPropertiesExpressionReference expressionReference = (ApplicationPropertiesExpressionReference) reference;
+                    ApplicationPropertiesExpressions.Expression expression = expressionReference.getExpression();
+                    String name = expression.getName();
+                    if (name.equals(key) || reaches(element, profile, name, key, edges)) {
+                        holder.registerProblem(reference, "Cyclic reference to '" + name + "'", ProblemHighlightType.GENERIC_ERROR);
+                    } else if (!expression.hasDefault() && !ENV_STYLE.matcher(name).matches() && !hasMetadataDefault(snapshot, name)
+                            && expressionReference.multiResolve(false).length == 0) {
+                        holder.registerProblem(reference, "Undefined property '" + name + "'", ProblemHighlightType.LIKE_UNKNOWN_SYMBOL);
+                    }
+                }
+            }
+        };
+    }
+
+    private static boolean hasMetadataDefault(QuarkusConfigSnapshot snapshot, String name) {
+        ExtendedConfigDescriptionBuildItem item = snapshot != null ? snapshot.getKeyTrie().match(name) : null;
+        return item != null && item.getDefaultValue() != null;
+    }
+
+    /**
+     * @param profile the profile the properties are resolved in, null for the default profile
+     * @return true if the definitions of the property <code>from</code> reference, directly or not, the property
+     * <code>to</code> when the profile is active
+     */
+    private static boolean reaches(PsiElement context, @Nullable String profile, String from, String to, Map<String, Set<String>> edges) {
+        Set<String> visited = new HashSet<>();
+        Deque<String> names = new ArrayDeque<>();
+        names.push(from);
+        while (!names.isEmpty() && visited.size() < MAX_DEPTH) {
+            String name = names.pop();
+            if (visited.add(name)) {
+                String edgeKey = profile != null ? "%" + profile + "." + name : name;
+                for (String referenced : edges.computeIfAbsent(edgeKey, k -> getReferencedNames(context, profile, name))) {
+                    if (referenced.equals(to)) {
+                        return true;
+                    }
+                    names.push(referenced);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the names referenced by the definitions of the property used when the profile is active: the ones of the
+     * profile or, if there are none, the ones without profile
+     */
+    private static Set<String> getReferencedNames(PsiElement context, @Nullable String profile, String name) {
+        List<ApplicationPropertiesProperty> definitions = new ArrayList<>();
+        List<ApplicationPropertiesProperty> defaultDefinitions = new ArrayList<>();
+        for (ApplicationPropertiesKey key : ApplicationPropertiesExpressionReference.resolveKeys(context, name)) {
+            ApplicationPropertiesProperty property = PsiTreeUtil.getParentOfType(key, ApplicationPropertiesProperty.class);
+            if (property != null && Objects.equals(profile, property.getProfile())) {
+                definitions.add(property);
+            } else if (property != null && property.getProfile() == null) {
+                defaultDefinitions.add(property);
+            }
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (ApplicationPropertiesProperty property : definitions.isEmpty() ? defaultDefinitions : definitions) {
+            String value = property.getValue();
+            if (value != null) {
+                for (ApplicationPropertiesExpressions.Expression expression : ApplicationPropertiesExpressions.parse(value)) {
+                    names.add(expression.getName());
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,62 @@
+package com.redhat.devtools.intellij.quarkus.lang.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesKey;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesProperty;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigKeyTrie;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigMetadataService;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigScanScheduler;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Report the quarkus.* keys unknown to the config metadata of the module. Only a valid snapshot is used, so that
+ * keys of a newly added extension are not reported while the metadata is being recomputed. The nearest known keys are
+ * only looked up when the quick fix is applied.
+ */
+public class ApplicationPropertiesUnknownKeyInspection extends LocalInspectionTool {
+    @NotNull
+    @Override
+    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        QuarkusConfigSnapshot snapshot = getSnapshot(holder);
+        if (snapshot == null) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        QuarkusConfigKeyTrie trie = snapshot.getKeyTrie();
+        LocalQuickFix fix = new ApplicationPropertiesChangeKeyFix(snapshot);
+        return new PsiElementVisitor() {
+            @Override
+            public void visitElement(PsiElement element) {
+                if (element instanceof ApplicationPropertiesProperty) {
+                    ApplicationPropertiesKey key = ((ApplicationPropertiesProperty) element).getKeyElement();
+                    if (key != null && key.getText().startsWith(QuarkusConstants.QUARKUS_PREFIX) && trie.match(key.getText()) == null) {
+                        holder.registerProblem(key, "Unknown Quarkus property '" + key.getText() + "'", fix);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * @return the valid snapshot of the module of the file or null if not computed yet (a computation is then
+     * scheduled)
+     */
+    static QuarkusConfigSnapshot getSnapshot(ProblemsHolder holder) {
+        Module module = ModuleUtilCore.findModuleForPsiElement(holder.getFile());
+        if (module == null) {
+            return null;
+        }
+        QuarkusConfigSnapshot snapshot = QuarkusConfigMetadataService.getInstance(module.getProject()).getCachedSnapshot(module);
+        if (snapshot == null) {
+            QuarkusConfigScanScheduler.getInstance(module.getProject()).schedule(module, QuarkusConfigScanScheduler.Priority.FOCUSED);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,48 @@
+package com.redhat.devtools.intellij.quarkus.lang.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesProperty;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigKeyTrie;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigSnapshot;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigValueValidators;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Report the values of known Quarkus properties which cannot be converted to the property type. Values using
+ * <code>${...}</code> expressions are only known at runtime and are not checked.
+ */
+public class ApplicationPropertiesValueInspection extends LocalInspectionTool {
+    @NotNull
+    @Override
+    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        QuarkusConfigSnapshot snapshot = ApplicationPropertiesUnknownKeyInspection.getSnapshot(holder);
+        if (snapshot == null) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        QuarkusConfigKeyTrie trie = snapshot.getKeyTrie();
+        QuarkusConfigValueValidators validators = snapshot.getValueValidators();
+        return new PsiElementVisitor() {
+            @Override
+            public void visitElement(PsiElement element) {
+                if (element instanceof ApplicationPropertiesProperty) {
+                    ApplicationPropertiesProperty property = (ApplicationPropertiesProperty) element;
+                    ASTNode valueNode = property.getValueNode();
+                    String value = property.getValue();
+                    if (valueNode == null || value == null || value.trim().isEmpty() || value.contains("${")) {
+                        return;
+                    }
+                    ExtendedConfigDescriptionBuildItem item = trie.match(property.getKey());
+                    String message = item != null ? validators.validate(item, value.trim()) : null;
+                    if (message != null) {
+                        holder.registerProblem(valueNode.getPsi(), message);
+                    }
+                }
+            }
+        };
+    }
+}
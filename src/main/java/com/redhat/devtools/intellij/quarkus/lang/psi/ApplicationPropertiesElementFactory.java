@@ -0,0 +1,31 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.util.IncorrectOperationException;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesFileType;
+
+import java.util.List;
+
+/**
+ * Create Quarkus properties PSI elements from text.
+ */
+public class ApplicationPropertiesElementFactory {
+    private ApplicationPropertiesElementFactory() {
+    }
+
+    /**
+     * @param project the project
+     * @param text the text of a single property
+     * @return the property
+     */
+    public static ApplicationPropertiesProperty createProperty(Project project, String text) {
+        ApplicationPropertiesFile file = (ApplicationPropertiesFile) PsiFileFactory.getInstance(project)
+                .createFileFromText("application.properties", ApplicationPropertiesFileType.INSTANCE, text);
+        List<ApplicationPropertiesProperty> properties = file.getProperties();
+        if (properties.size() != 1) {
+            throw new IncorrectOperationException("Not a single property: " + text);
+        }
+        return properties.get(0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.psi.tree.IElementType;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLanguage;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+public class ApplicationPropertiesElementType extends IElementType {
+    public ApplicationPropertiesElementType(@NotNull @NonNls String debugName) {
+        super(debugName, ApplicationPropertiesLanguage.INSTANCE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementResolveResult;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiPolyVariantReferenceBase;
+import com.intellij.psi.ResolveResult;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesKeyIndex;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reference from a <code>${name}</code> expression to the keys defining the property in the module, in every
+ * profile. The definitions are found with {@link ApplicationPropertiesKeyIndex}.
+ */
+public class ApplicationPropertiesExpressionReference extends PsiPolyVariantReferenceBase<ApplicationPropertiesProperty> {
+    private final ApplicationPropertiesExpressions.Expression expression;
+
+    public ApplicationPropertiesExpressionReference(ApplicationPropertiesProperty property, ApplicationPropertiesExpressions.Expression expression, int offset) {
+        super(property, TextRange.from(offset, expression.getName().length()), true);
+        this.expression = expression;
+    }
+
+    public ApplicationPropertiesExpressions.Expression getExpression() {
+        return expression;
+    }
+
+    @NotNull
+    @Override
+    public ResolveResult[] multiResolve(boolean incompleteCode) {
+        List<ResolveResult> results = new ArrayList<>();
+        for (ApplicationPropertiesKey key : resolveKeys(getElement(), expression.getName())) {
+            results.add(new PsiElementResolveResult(key));
+        }
+        return results.toArray(ResolveResult.EMPTY_ARRAY);
+    }
+
+    /**
+     * @param context the element the search starts from
+     * @param name the property name
+     * @return the keys defining the property in the Quarkus properties files of the module of the context
+     */
+    public static List<ApplicationPropertiesKey> resolveKeys(PsiElement context, String name) {
+        List<ApplicationPropertiesKey> keys = new ArrayList<>();
+        PsiManager manager = context.getManager();
+        Module module = ModuleUtilCore.findModuleForPsiElement(context);
+        // each module of a reactor has its own configuration
+        GlobalSearchScope scope = module != null ? GlobalSearchScope.moduleScope(module) : GlobalSearchScope.fileScope(context.getContainingFile());
+        for (Map.Entry<VirtualFile, List<ApplicationPropertiesKeyIndex.Occurrence>> entry : ApplicationPropertiesKeyIndex.getOccurrences(name, scope).entrySet()) {
+            PsiFile file = manager.findFile(entry.getKey());
+            if (file != null) {
+                for (ApplicationPropertiesKeyIndex.Occurrence occurrence : entry.getValue()) {
+                    ApplicationPropertiesKey key = PsiTreeUtil.getParentOfType(file.findElementAt(occurrence.getOffset()), ApplicationPropertiesKey.class);
+                    if (key != null) {
+                        keys.add(key);
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    @NotNull
+    @Override
+    public Object[] getVariants() {
+        return EMPTY_ARRAY;
+    }
+}
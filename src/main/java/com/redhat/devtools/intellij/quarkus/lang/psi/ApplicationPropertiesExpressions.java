@@ -0,0 +1,95 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser of the <code>${name:default}</code> expressions of property values. Expressions may be nested in the default
+ * value, <code>\$</code> escapes an expression. Unterminated expressions are not expressions.
+ */
+public class ApplicationPropertiesExpressions {
+    /**
+     * A property referenced by an expression.
+     */
+    public static class Expression {
+        private final String name;
+        private final int offset;
+        private final boolean hasDefault;
+
+        private Expression(String name, int offset, boolean hasDefault) {
+            this.name = name;
+            this.offset = offset;
+            this.hasDefault = hasDefault;
+        }
+
+        /**
+         * @return the name of the referenced property
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the offset of the name in the value
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return true if the expression has a default value, used when the property is not defined
+         */
+        public boolean hasDefault() {
+            return hasDefault;
+        }
+    }
+
+    private ApplicationPropertiesExpressions() {
+    }
+
+    /**
+     * @param value the value
+     * @return the expressions of the value, in order
+     */
+    public static List<Expression> parse(CharSequence value) {
+        List<Expression> expressions = new ArrayList<>();
+        int length = value.length();
+        for (int i = 0; i + 1 < length; ++i) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '$' && value.charAt(i + 1) == '{') {
+                int start = i + 2;
+                int end = start;
+                while (end < length && value.charAt(end) != ':' && value.charAt(end) != '}' && value.charAt(end) != '$') {
+                    end++;
+                }
+                if (end < length && end > start && (value.charAt(end) == '}' || (value.charAt(end) == ':' && isTerminated(value, end + 1)))) {
+                    expressions.add(new Expression(value.subSequence(start, end).toString(), start, value.charAt(end) == ':'));
+                }
+                // nested expressions of the default value are found by continuing after the name
+                i = end - 1;
+            }
+        }
+        return expressions;
+    }
+
+    /**
+     * @return true if the default value starting at the index is followed by the closing brace of its expression
+     */
+    private static boolean isTerminated(CharSequence value, int index) {
+        int depth = 1;
+        for (int i = index; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '$' && i + 1 < value.length() && value.charAt(i + 1) == '{') {
+                depth++;
+                i++;
+            } else if (c == '}' && --depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
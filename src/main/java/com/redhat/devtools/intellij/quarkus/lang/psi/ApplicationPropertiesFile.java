@@ -0,0 +1,32 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.extapi.psi.PsiFileBase;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.psi.FileViewProvider;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesFileType;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLanguage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public class ApplicationPropertiesFile extends PsiFileBase {
+    public ApplicationPropertiesFile(@NotNull FileViewProvider viewProvider) {
+        super(viewProvider, ApplicationPropertiesLanguage.INSTANCE);
+    }
+
+    @NotNull
+    @Override
+    public FileType getFileType() {
+        return ApplicationPropertiesFileType.INSTANCE;
+    }
+
+    public List<ApplicationPropertiesProperty> getProperties() {
+        return PsiTreeUtil.getChildrenOfTypeAsList(this, ApplicationPropertiesProperty.class);
+    }
+
+    @Override
+    public String toString() {
+        return "Quarkus properties file";
+    }
+}
@@ -0,0 +1,47 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiNamedElement;
+import com.intellij.util.IncorrectOperationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The key of a property, without its profile.
+ */
+public class ApplicationPropertiesKey extends ASTWrapperPsiElement implements PsiNamedElement {
+    public ApplicationPropertiesKey(@NotNull ASTNode node) {
+        super(node);
+    }
+
+    /**
+     * @return the segments of the key, quoted segments keep their quotes
+     */
+    public List<String> getSegments() {
+        List<String> segments = new ArrayList<>();
+        for (ASTNode child : getNode().getChildren(null)) {
+            if (child.getElementType() == ApplicationPropertiesTypes.KEY_SEGMENT) {
+                segments.add(child.getText());
+            }
+        }
+        return segments;
+    }
+
+    @Override
+    public String getName() {
+        return getText();
+    }
+
+    @Override
+    public PsiElement setName(@NotNull String name) throws IncorrectOperationException {
+        ApplicationPropertiesKey key = ApplicationPropertiesElementFactory.createProperty(getProject(), name + "=").getKeyElement();
+        if (key == null) {
+            throw new IncorrectOperationException("Invalid key: " + name);
+        }
+        return replace(key);
+    }
+}
@@ -0,0 +1,86 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.impl.source.tree.LazyParseablePsiElement;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A property: <code>[%profile.]key separator value</code>.
+ */
+public class ApplicationPropertiesProperty extends LazyParseablePsiElement {
+    private static final Pattern CONTINUATION = Pattern.compile("\\\\\\R[ \\t\\f]*");
+
+    public ApplicationPropertiesProperty(IElementType type, CharSequence buffer) {
+        super(type, buffer);
+    }
+
+    /**
+     * @return the profile without the leading % or null if there is no profile
+     */
+    @Nullable
+    public String getProfile() {
+        ASTNode profile = getNode().findChildByType(ApplicationPropertiesTypes.PROFILE);
+        return profile != null ? profile.getText().substring(1) : null;
+    }
+
+    /**
+     * @return the key element, the key without the profile
+     */
+    @Nullable
+    public ApplicationPropertiesKey getKeyElement() {
+        return PsiTreeUtil.getChildOfType(this, ApplicationPropertiesKey.class);
+    }
+
+    /**
+     * @return the key without the profile
+     */
+    public String getKey() {
+        ApplicationPropertiesKey key = getKeyElement();
+        return key != null ? key.getText() : "";
+    }
+
+    @Nullable
+    public ASTNode getValueNode() {
+        return getNode().findChildByType(ApplicationPropertiesTypes.VALUE);
+    }
+
+    /**
+     * @return the value, continuation lines joined, or null if the property has no value
+     */
+    @Nullable
+    public String getValue() {
+        ASTNode value = getValueNode();
+        return value != null ? CONTINUATION.matcher(value.getText()).replaceAll("") : null;
+    }
+
+    /**
+     * @return the references of the <code>${...}</code> expressions of the value
+     */
+    @NotNull
+    @Override
+    public PsiReference[] getReferences() {
+        ASTNode value = getValueNode();
+        if (value == null) {
+            return PsiReference.EMPTY_ARRAY;
+        }
+        int valueOffset = value.getStartOffset() - getNode().getStartOffset();
+        List<PsiReference> references = new ArrayList<>();
+        for (ApplicationPropertiesExpressions.Expression expression : ApplicationPropertiesExpressions.parse(value.getChars())) {
+            references.add(new ApplicationPropertiesExpressionReference(this, expression, valueOffset + expression.getOffset()));
+        }
+        return references.toArray(PsiReference.EMPTY_ARRAY);
+    }
+
+    @Override
+    public String toString() {
+        return "ApplicationPropertiesProperty";
+    }
+}
@@ -0,0 +1,70 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.tree.IReparseableElementType;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLanguage;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLexer;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesMergingLexer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A property line. It is lexed as a single token, parsed on demand and, when an edit stays inside the line and
+ * the line is still a single property, reparsed alone instead of the whole file.
+ */
+public class ApplicationPropertiesPropertyElementType extends IReparseableElementType {
+    ApplicationPropertiesPropertyElementType() {
+        super("PROPERTY", ApplicationPropertiesLanguage.INSTANCE);
+    }
+
+    @Override
+    protected ASTNode doParseContents(@NotNull ASTNode chameleon, @NotNull PsiElement psi) {
+        Project project = psi.getProject();
+        PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(project, chameleon, new ApplicationPropertiesLexer(),
+                getLanguage(), chameleon.getChars());
+        PsiBuilder.Marker root = builder.mark();
+        if (builder.getTokenType() == ApplicationPropertiesTypes.PROFILE) {
+            builder.advanceLexer();
+            if (builder.getTokenType() == ApplicationPropertiesTypes.DOT) {
+                builder.advanceLexer();
+            }
+        }
+        PsiBuilder.Marker key = builder.mark();
+        while (ApplicationPropertiesTypes.KEY_TOKENS.contains(builder.getTokenType())) {
+            builder.advanceLexer();
+        }
+        key.done(ApplicationPropertiesTypes.KEY);
+        while (!builder.eof()) {
+            builder.advanceLexer();
+        }
+        root.done(this);
+        return builder.getTreeBuilt().getFirstChildNode();
+    }
+
+    @Nullable
+    @Override
+    public ASTNode createNode(CharSequence text) {
+        return new ApplicationPropertiesProperty(this, text);
+    }
+
+    @Override
+    public boolean isParsable(@NotNull CharSequence buffer, @NotNull Language fileLanguage, @NotNull Project project) {
+        Lexer lexer = new ApplicationPropertiesMergingLexer();
+        lexer.start(buffer);
+        if (lexer.getTokenType() != this || lexer.getTokenEnd() != buffer.length()) {
+            return false;
+        }
+        // a trailing continuation would swallow the next line
+        int count = 0;
+        for (int offset = buffer.length() - 1; offset >= 0 && buffer.charAt(offset) == '\\'; --offset) {
+            count++;
+        }
+        return count % 2 == 0;
+    }
+}
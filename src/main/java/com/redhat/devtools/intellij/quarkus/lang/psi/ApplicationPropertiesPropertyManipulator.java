@@ -0,0 +1,17 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.AbstractElementManipulator;
+import com.intellij.util.IncorrectOperationException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Edit the text of a property, used to rename the references of its expressions.
+ */
+public class ApplicationPropertiesPropertyManipulator extends AbstractElementManipulator<ApplicationPropertiesProperty> {
+    @Override
+    public ApplicationPropertiesProperty handleContentChange(@NotNull ApplicationPropertiesProperty element, @NotNull TextRange range, String newContent) throws IncorrectOperationException {
+        String text = range.replace(element.getText(), newContent);
+        return (ApplicationPropertiesProperty) element.replace(ApplicationPropertiesElementFactory.createProperty(element.getProject(), text));
+    }
+}
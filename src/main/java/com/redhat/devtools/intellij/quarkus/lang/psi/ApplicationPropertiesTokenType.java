@@ -0,0 +1,17 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.psi.tree.IElementType;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLanguage;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+public class ApplicationPropertiesTokenType extends IElementType {
+    public ApplicationPropertiesTokenType(@NotNull @NonNls String debugName) {
+        super(debugName, ApplicationPropertiesLanguage.INSTANCE);
+    }
+
+    @Override
+    public String toString() {
+        return "ApplicationPropertiesTokenType." + super.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.redhat.devtools.intellij.quarkus.lang.psi;
+
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IFileElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLanguage;
+
+/**
+ * Token and element types of Quarkus properties files. The lexer produces fine grained tokens, the tokens of a
+ * property line are merged into a single {@link #PROPERTY} token which is parsed lazily and reparsed on its own
+ * when only this line is edited.
+ */
+public interface ApplicationPropertiesTypes {
+    IFileElementType FILE = new IFileElementType(ApplicationPropertiesLanguage.INSTANCE);
+
+    IElementType WHITE_SPACE = TokenType.WHITE_SPACE;
+    IElementType BAD_CHARACTER = TokenType.BAD_CHARACTER;
+    IElementType COMMENT = new ApplicationPropertiesTokenType("COMMENT");
+    IElementType PROFILE = new ApplicationPropertiesTokenType("PROFILE");
+    IElementType DOT = new ApplicationPropertiesTokenType("DOT");
+    IElementType KEY_SEGMENT = new ApplicationPropertiesTokenType("KEY_SEGMENT");
+    IElementType SEPARATOR = new ApplicationPropertiesTokenType("SEPARATOR");
+    IElementType VALUE = new ApplicationPropertiesTokenType("VALUE");
+
+    IElementType KEY = new ApplicationPropertiesElementType("KEY");
+    ApplicationPropertiesPropertyElementType PROPERTY = new ApplicationPropertiesPropertyElementType();
+
+    TokenSet PROPERTY_TOKENS = TokenSet.create(PROFILE, DOT, KEY_SEGMENT, SEPARATOR, VALUE);
+    TokenSet KEY_TOKENS = TokenSet.create(KEY_SEGMENT, DOT);
+    TokenSet COMMENTS = TokenSet.create(COMMENT);
+    TokenSet WHITE_SPACES = TokenSet.create(WHITE_SPACE);
+}
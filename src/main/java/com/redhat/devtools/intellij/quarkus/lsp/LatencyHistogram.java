@@ -0,0 +1,90 @@
+package com.redhat.devtools.intellij.quarkus.lsp;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free latency histogram with logarithmic buckets (8 buckets per power of two, from 1 microsecond
+ * to about 18 minutes). Percentiles are approximated by the upper bound of the matching bucket, so the
+ * relative error stays below 10%.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKETS = 8;
+    private static final int POWERS = 30;
+    private static final int BUCKETS = SUB_BUCKETS * POWERS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long durationNanos) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        counts.incrementAndGet(getBucket(micros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        long max;
+        while ((max = maxMicros.get()) < micros && !maxMicros.compareAndSet(max, micros)) {
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMeanMicros() {
+        long c = count.get();
+        return c == 0 ? 0 : totalMicros.get() / c;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the approximated latency in microseconds for the given percentile
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(getUpperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    private static int getBucket(long micros) {
+        int power = 63 - Long.numberOfLeadingZeros(micros);
+        if (power >= POWERS) {
+            return BUCKETS - 1;
+        }
+        long base = 1L << power;
+        int sub = (int) ((micros - base) * SUB_BUCKETS / base);
+        return power * SUB_BUCKETS + sub;
+    }
+
+    private static long getUpperBound(int bucket) {
+        int power = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        long base = 1L << power;
+        return base + (base * (sub + 1)) / SUB_BUCKETS;
+    }
+}
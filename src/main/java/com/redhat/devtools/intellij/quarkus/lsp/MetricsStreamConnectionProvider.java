@@ -0,0 +1,272 @@
+package com.redhat.devtools.intellij.quarkus.lsp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.gtache.lsp.client.connection.StreamConnectionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the language server connection and observes the JSON-RPC traffic flowing in both directions.
+ * Requests are matched with their responses by id and the round trip is recorded in {@link QuarkusLSPMetrics}.
+ * Diagnostics are notifications, so their latency is measured from the last didOpen/didChange of a document
+ * to the next publishDiagnostics for the same document.
+ */
+public class MetricsStreamConnectionProvider implements StreamConnectionProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsStreamConnectionProvider.class);
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final StreamConnectionProvider delegate;
+
+    private final Map<String, Pending> clientRequests = new ConcurrentHashMap<>();
+    private final Map<String, Pending> serverRequests = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingDiagnostics = new ConcurrentHashMap<>();
+
+    private InputStream inputStream;
+    private OutputStream outputStream;
+
+    public MetricsStreamConnectionProvider(StreamConnectionProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void start() throws IOException {
+        delegate.start();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        if (inputStream == null) {
+            inputStream = new TapInputStream(delegate.getInputStream(), new MessageTap(true));
+        }
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new TapOutputStream(delegate.getOutputStream(), new MessageTap(false));
+        }
+        return outputStream;
+    }
+
+    @Override
+    public void stop() {
+        clientRequests.clear();
+        serverRequests.clear();
+        pendingDiagnostics.clear();
+        delegate.stop();
+    }
+
+    private static class Pending {
+        private final String method;
+        private final long start;
+
+        private Pending(String method, long start) {
+            this.method = method;
+            this.start = start;
+        }
+    }
+
+    private void onMessage(boolean fromServer, byte[] content, int length) {
+        long now = System.nanoTime();
+        String id = null;
+        String method = null;
+        String uri = null;
+        boolean response = false;
+        try (JsonParser parser = FACTORY.createParser(content, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("id".equals(field)) {
+                    id = parser.getValueAsString();
+                } else if ("method".equals(field)) {
+                    method = parser.getValueAsString();
+                } else if ("result".equals(field) || "error".equals(field)) {
+                    response = true;
+                    parser.skipChildren();
+                } else if ("params".equals(field) && token == JsonToken.START_OBJECT) {
+                    uri = findDocumentURI(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to parse JSON-RPC message", e);
+            return;
+        }
+        Map<String, Pending> requests = fromServer ? serverRequests : clientRequests;
+        Map<String, Pending> answered = fromServer ? clientRequests : serverRequests;
+        if (response && id != null) {
+            Pending pending = answered.remove(id);
+            if (pending != null) {
+                QuarkusLSPMetrics.INSTANCE.record(pending.method, now - pending.start);
+            }
+        } else if (method != null) {
+            if (id != null) {
+                requests.put(id, new Pending(method, now));
+            } else if (uri != null) {
+                if (fromServer && QuarkusLSPMetrics.DIAGNOSTICS.equals(method)) {
+                    Long start = pendingDiagnostics.remove(uri);
+                    if (start != null) {
+                        QuarkusLSPMetrics.INSTANCE.record(method, now - start);
+                    }
+                } else if (!fromServer && (method.equals("textDocument/didOpen") || method.equals("textDocument/didChange"))) {
+                    pendingDiagnostics.put(uri, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Look for the document URI inside the params object, either as params.uri (publishDiagnostics) or
+     * params.textDocument.uri (didOpen, didChange). The parser is left on the END_OBJECT of params.
+     */
+    private static String findDocumentURI(JsonParser parser) throws IOException {
+        String uri = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("uri".equals(field)) {
+                uri = parser.getValueAsString();
+            } else if ("textDocument".equals(field) && token == JsonToken.START_OBJECT) {
+                String nested = findDocumentURI(parser);
+                if (nested != null) {
+                    uri = nested;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return uri;
+    }
+
+    /**
+     * Incremental decoder of the LSP base protocol framing (Content-Length header followed by the JSON content).
+     */
+    private class MessageTap {
+        private final boolean fromServer;
+        private final ByteArrayOutputStream header = new ByteArrayOutputStream(64);
+        private byte[] content;
+        private int contentLength = -1;
+        private int position;
+
+        private MessageTap(boolean fromServer) {
+            this.fromServer = fromServer;
+        }
+
+        private void accept(byte[] buffer, int offset, int length) {
+            int end = offset + length;
+            while (offset < end) {
+                if (content == null) {
+                    int b = buffer[offset++];
+                    header.write(b);
+                    if (b == '\n' && endsWithBlankLine()) {
+                        contentLength = parseContentLength();
+                        header.reset();
+                        if (contentLength > 0) {
+                            content = new byte[contentLength];
+                            position = 0;
+                        }
+                    }
+                } else {
+                    int count = Math.min(end - offset, contentLength - position);
+                    System.arraycopy(buffer, offset, content, position, count);
+                    position += count;
+                    offset += count;
+                    if (position == contentLength) {
+                        byte[] message = content;
+                        content = null;
+                        try {
+                            onMessage(fromServer, message, contentLength);
+                        } catch (RuntimeException e) {
+                            LOGGER.debug("Unable to record JSON-RPC message", e);
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean endsWithBlankLine() {
+            String text = new String(header.toByteArray(), StandardCharsets.US_ASCII);
+            return text.endsWith("\r\n\r\n") || text.endsWith("\n\n");
+        }
+
+        private int parseContentLength() {
+            for (String line : new String(header.toByteArray(), StandardCharsets.US_ASCII).split("\r?\n")) {
+                int index = line.indexOf(':');
+                if (index > 0 && line.substring(0, index).trim().equalsIgnoreCase("Content-Length")) {
+                    try {
+                        return Integer.parseInt(line.substring(index + 1).trim());
+                    } catch (NumberFormatException e) {
+                        return -1;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static class TapInputStream extends FilterInputStream {
+        private final MessageTap tap;
+
+        private TapInputStream(InputStream in, MessageTap tap) {
+            super(in);
+            this.tap = tap;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                tap.accept(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                tap.accept(b, off, count);
+            }
+            return count;
+        }
+    }
+
+    private static class TapOutputStream extends FilterOutputStream {
+        private final MessageTap tap;
+
+        private TapOutputStream(OutputStream out, MessageTap tap) {
+            super(out);
+            this.tap = tap;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            tap.accept(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            tap.accept(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.redhat.devtools.intellij.quarkus.lsp;
+
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManager;
+import com.intellij.openapi.extensions.PluginId;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per method latency histograms for the Quarkus language server traffic. Methods observed on the language
+ * server channel are recorded under their JSON-RPC method name, work done inside the IDE on behalf of the
+ * server is recorded with the {@link #IDE_SUFFIX} suffix.
+ */
+public class QuarkusLSPMetrics {
+    public static final QuarkusLSPMetrics INSTANCE = new QuarkusLSPMetrics();
+
+    public static final String COMPLETION = "textDocument/completion";
+    public static final String HOVER = "textDocument/hover";
+    public static final String DIAGNOSTICS = "textDocument/publishDiagnostics";
+    public static final String PROJECT_INFO = "quarkus/projectInfo";
+    public static final String IDE_SUFFIX = " (IDE)";
+
+    private static final String PLUGIN_ID = "com.redhat.devtools.intellij.quarkus";
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(String method, long durationNanos) {
+        histograms.computeIfAbsent(method, k -> new LatencyHistogram()).record(durationNanos);
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    public String dump() {
+        StringWriter writer = new StringWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            out.println(String.format("%-40s %8s %10s %10s %10s %10s", "Method", "Count", "p50 (ms)", "p95 (ms)", "p99 (ms)", "max (ms)"));
+            getHistograms().forEach((method, histogram) -> out.println(String.format("%-40s %8d %10.1f %10.1f %10.1f %10.1f", method,
+                    histogram.getCount(), toMillis(histogram.getPercentileMicros(50)), toMillis(histogram.getPercentileMicros(95)),
+                    toMillis(histogram.getPercentileMicros(99)), toMillis(histogram.getMaxMicros()))));
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Export the metrics as CSV so that runs of different plugin versions can be compared.
+     *
+     * @param file the target file
+     * @throws IOException if the file cannot be written
+     */
+    public void export(File file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+             PrintWriter out = new PrintWriter(writer)) {
+            out.println("# plugin version: " + getPluginVersion());
+            out.println("method,count,mean_us,p50_us,p95_us,p99_us,max_us");
+            getHistograms().forEach((method, histogram) -> out.println(method + ',' + histogram.getCount() + ',' +
+                    histogram.getMeanMicros() + ',' + histogram.getPercentileMicros(50) + ',' +
+                    histogram.getPercentileMicros(95) + ',' + histogram.getPercentileMicros(99) + ',' +
+                    histogram.getMaxMicros()));
+        }
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String getPluginVersion() {
+        IdeaPluginDescriptor descriptor = PluginManager.getPlugin(PluginId.getId(PLUGIN_ID));
+        return descriptor != null ? descriptor.getVersion() : "unknown";
+    }
+}
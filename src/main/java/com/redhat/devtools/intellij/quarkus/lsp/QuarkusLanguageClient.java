@@ -1,30 +1,108 @@
 package com.redhat.devtools.intellij.quarkus.lsp;
 
 import com.github.gtache.lsp.client.LanguageClientImpl;
-import com.intellij.openapi.application.ApplicationManager;
+import com.github.gtache.lsp.client.languageserver.wrapper.LanguageServerWrapper;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.containers.ContainerUtil;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
 import com.redhat.devtools.intellij.quarkus.search.PSIQuarkusManager;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigPropertyProvider;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigScanScheduler;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
 import com.redhat.quarkus.commons.QuarkusProjectInfo;
 import com.redhat.quarkus.commons.QuarkusProjectInfoParams;
+import com.redhat.quarkus.commons.QuarkusPropertiesChangeEvent;
 import com.redhat.quarkus.commons.QuarkusPropertiesScope;
 import com.redhat.quarkus.ls.api.QuarkusLanguageClientAPI;
+import com.redhat.quarkus.ls.api.QuarkusLanguageServerAPI;
+import org.eclipse.lsp4j.services.LanguageServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 public class QuarkusLanguageClient extends LanguageClientImpl implements QuarkusLanguageClientAPI {
   private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusLanguageClient.class);
 
+  private LanguageServer server;
+
+  /**
+   * Projects whose source changes are listened, weakly referenced: the listeners are removed when the project is
+   * disposed.
+   */
+  private final Set<Project> listenedProjects = Collections.newSetFromMap(ContainerUtil.createConcurrentWeakMap());
+
+  @Override
+  public void connect(LanguageServer server, LanguageServerWrapper wrapper) {
+    super.connect(server, wrapper);
+    this.server = server;
+  }
+
   @Override
   public CompletableFuture<QuarkusProjectInfo> getQuarkusProjectInfo(QuarkusProjectInfoParams request) {
     LOGGER.info("Project info for:" + request.getUri() + " scope=" + request.getScope());
-    QuarkusProjectInfo result = new QuarkusProjectInfo();
-    if (request.getScope() == QuarkusPropertiesScope.classpath) {
-      ApplicationManager.getApplication().runReadAction(() -> result.setProperties(PSIQuarkusManager.INSTANCE.getConfigItems(request)));
-    } else {
+    long start = System.nanoTime();
+    Module module = ReadAction.compute(() -> PSIQuarkusManager.getModule(request.getUri()));
+    if (module == null) {
+      QuarkusProjectInfo result = new QuarkusProjectInfo();
       result.setProperties(new ArrayList<>());
+      return CompletableFuture.completedFuture(result);
+    }
+    String projectURI = QuarkusModuleUtil.getModuleURI(module);
+    if (listenedProjects.add(module.getProject())) {
+      QuarkusConfigPropertyProvider.getInstance(module.getProject()).addListener(changed ->
+              sendPropertiesChanged(QuarkusModuleUtil.getModuleURI(changed), QuarkusPropertiesScope.sources), module.getProject());
+    }
+    if (request.getScope() == QuarkusPropertiesScope.sources) {
+      QuarkusProjectInfo result = new QuarkusProjectInfo();
+      result.setProjectURI(projectURI);
+      result.setProperties(getSourceItems(module));
+      return CompletableFuture.completedFuture(result);
+    }
+    return QuarkusConfigScanScheduler.getInstance(module.getProject()).scheduleOrServeStale(module, QuarkusConfigScanScheduler.Priority.REQUEST,
+            refreshed -> sendPropertiesChanged(projectURI, QuarkusPropertiesScope.classpath)).thenApply(snapshot -> {
+      QuarkusProjectInfo result = new QuarkusProjectInfo();
+      result.setProjectURI(projectURI);
+      // the items injected in the sources are only returned for the sources scope
+      result.setProperties(snapshot.getLanguageServerItems());
+      QuarkusLSPMetrics.INSTANCE.record(QuarkusLSPMetrics.PROJECT_INFO + QuarkusLSPMetrics.IDE_SUFFIX, System.nanoTime() - start);
+      if (snapshot.isStale()) {
+        LOGGER.info("Served stale Quarkus properties for " + projectURI + " while indexing");
+      }
+      return result;
+    });
+  }
+
+  /**
+   * Compute the config items injected in the sources of the module, which requires smart mode.
+   *
+   * @param module the module
+   * @return the items, empty in dumb mode
+   */
+  private static List<ExtendedConfigDescriptionBuildItem> getSourceItems(Module module) {
+    return ReadAction.compute(() -> module.isDisposed() || DumbService.isDumb(module.getProject()) ? Collections.emptyList()
+            : QuarkusConfigPropertyProvider.getInstance(module.getProject()).getConfigItems(module));
+  }
+
+  /**
+   * Notify the language server that fresher properties are available for a project so that it requests them again.
+   *
+   * @param projectURI the project URI
+   * @param scope the scope of the properties that changed
+   */
+  private void sendPropertiesChanged(String projectURI, QuarkusPropertiesScope scope) {
+    if (server instanceof QuarkusLanguageServerAPI) {
+      QuarkusPropertiesChangeEvent event = new QuarkusPropertiesChangeEvent();
+      event.setType(Collections.singletonList(scope));
+      event.setProjectURIs(Collections.singleton(projectURI));
+      ((QuarkusLanguageServerAPI) server).quarkusPropertiesChanged(event);
     }
-    return CompletableFuture.completedFuture(result);
   }
 }
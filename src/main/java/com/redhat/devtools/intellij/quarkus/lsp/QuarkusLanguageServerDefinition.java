@@ -12,6 +12,11 @@ public class QuarkusLanguageServerDefinition extends ExeLanguageServerDefinition
     super(ext, path, args);
   }
 
+  @Override
+  public StreamConnectionProvider createConnectionProvider(String workingDir) {
+    return new MetricsStreamConnectionProvider(super.createConnectionProvider(workingDir));
+  }
+
   @Override
   public LanguageClientImpl createLanguageClient() {
     return new QuarkusLanguageClient();
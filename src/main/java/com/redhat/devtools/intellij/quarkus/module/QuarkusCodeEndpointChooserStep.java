@@ -5,38 +5,68 @@ import com.intellij.ide.BrowserUtil;
 import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.ide.util.projectWizard.ModuleWizardStep;
 import com.intellij.ide.util.projectWizard.WizardContext;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.ui.ComponentWithBrowseButton;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.openapi.util.Comparing;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.ui.ColoredListCellRenderer;
+import com.intellij.ui.DocumentAdapter;
 import com.intellij.ui.HyperlinkLabel;
+import com.intellij.ui.SimpleColoredComponent;
+import com.intellij.ui.SimpleTextAttributes;
 import com.intellij.ui.TextFieldWithStoredHistory;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBRadioButton;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.ui.FormBuilder;
 import com.intellij.util.ui.JBUI;
 import com.intellij.util.ui.components.BorderLayoutPanel;
 import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
+import org.jetbrains.annotations.NotNull;
 
 import javax.swing.ButtonGroup;
 import javax.swing.JComponent;
+import javax.swing.JList;
 import javax.swing.JPanel;
+import javax.swing.event.DocumentEvent;
 import java.awt.BorderLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.LAST_ENDPOINT_URL;
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.LAST_OFFLINE;
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_CODE_URL;
 
 public class QuarkusCodeEndpointChooserStep extends ModuleWizardStep {
-    private static final String QUARKUS_CODE_URL = "https://code.quarkus.io";
-    private static final String LAST_ENDPOINT_URL = "quarkus.code.endpoint.url.last";
+    private static final int PREFETCH_DELAY = 500;
+    private static final int PROBE_TIMEOUT = 1000;
     private static final String ENDPOINT_URL_HISTORY = "quarkus.code.endpoint.url.history";
     private final WizardContext wizardContext;
     private final JBRadioButton defaultRadioButton = new JBRadioButton("Default:", true);
     private final JBRadioButton customRadioButton = new JBRadioButton("Custom:", false);
+    private final JBRadioButton offlineRadioButton = new JBRadioButton("Offline (bundled templates)", false);
     private final TextFieldWithStoredHistory endpointURL = new TextFieldWithStoredHistory(ENDPOINT_URL_HISTORY);
     private final ComponentWithBrowseButton<TextFieldWithStoredHistory> customUrlWithBrowseButton;
+    private final Alarm prefetchAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD);
+    /**
+     * Endpoint URL to latency in milliseconds, -1 if the endpoint is not reachable.
+     */
+    private final Map<String, Long> latencies = new ConcurrentHashMap<>();
+    private final SimpleColoredComponent defaultLatencyLabel = new SimpleColoredComponent();
+    private final HyperlinkLabel fastestLabel = new HyperlinkLabel();
+    private boolean probed;
 
     QuarkusCodeEndpointChooserStep(WizardContext wizardContext) {
         this.customUrlWithBrowseButton = new ComponentWithBrowseButton(this.endpointURL, new ActionListener() {
@@ -59,24 +89,136 @@ public class QuarkusCodeEndpointChooserStep extends ModuleWizardStep {
         } else {
             this.defaultRadioButton.setSelected(true);
         }
+        if (PropertiesComponent.getInstance().getBoolean(LAST_OFFLINE)) {
+            this.defaultRadioButton.setSelected(false);
+            this.customRadioButton.setSelected(false);
+            this.offlineRadioButton.setSelected(true);
+        }
 
         List<String> history = this.endpointURL.getHistory();
         history.remove(QUARKUS_CODE_URL);
         this.endpointURL.setHistory(history);
+        this.endpointURL.setRenderer(new ColoredListCellRenderer<String>() {
+            @Override
+            protected void customizeCellRenderer(@NotNull JList<? extends String> list, String value, int index, boolean selected, boolean hasFocus) {
+                append(value);
+                appendLatency(this, latencies.get(value));
+            }
+        });
+        this.fastestLabel.setVisible(false);
+        this.fastestLabel.addHyperlinkListener(e -> QuarkusCodeEndpointChooserStep.this.selectFastestEndpoint());
         this.updateCustomUrl();
+        this.endpointURL.getTextEditor().getDocument().addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                QuarkusCodeEndpointChooserStep.this.schedulePrefetch();
+            }
+        });
+    }
+
+    /**
+     * Prefetch the Quarkus model of the current endpoint once the user stopped typing so that the extensions
+     * step opens with the model already in memory.
+     */
+    private void schedulePrefetch() {
+        if (this.offlineRadioButton.isSelected()) {
+            return;
+        }
+        String url = this.getSelectedEndpointURL();
+        this.prefetchAlarm.cancelAllRequests();
+        this.prefetchAlarm.addRequest(() -> {
+            try {
+                new URL(url);
+                QuarkusModelRegistry.INSTANCE.prefetch(url);
+            } catch (MalformedURLException e) {
+                // not a complete URL yet
+            }
+        }, PREFETCH_DELAY);
+    }
+
+    /**
+     * Probe the default endpoint and the history entries concurrently. Each result is displayed as soon as it is
+     * known, dead endpoints fail after {@link #PROBE_TIMEOUT}.
+     */
+    private void probeEndpoints() {
+        Set<String> urls = new LinkedHashSet<>();
+        urls.add(QUARKUS_CODE_URL);
+        urls.addAll(this.endpointURL.getHistory());
+        for (String url : urls) {
+            AppExecutorUtil.getAppExecutorService().execute(() -> {
+                this.latencies.put(url, QuarkusHttpClient.INSTANCE.probe(url + QuarkusModelRegistry.EXTENSIONS_SUFFIX, PROBE_TIMEOUT));
+                ApplicationManager.getApplication().invokeLater(this::updateLatencies, ModalityState.any());
+            });
+        }
+    }
+
+    private static void appendLatency(SimpleColoredComponent component, Long latency) {
+        if (latency != null) {
+            if (latency >= 0) {
+                component.append("  " + latency + " ms", SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            } else {
+                component.append("  unreachable", SimpleTextAttributes.ERROR_ATTRIBUTES);
+            }
+        }
+    }
+
+    private String getFastestEndpoint() {
+        return this.latencies.entrySet().stream().filter(entry -> entry.getValue() >= 0).
+                min(Comparator.comparingLong(Map.Entry::getValue)).map(Map.Entry::getKey).orElse(null);
+    }
+
+    private void updateLatencies() {
+        this.defaultLatencyLabel.clear();
+        appendLatency(this.defaultLatencyLabel, this.latencies.get(QUARKUS_CODE_URL));
+        this.endpointURL.repaint();
+        String fastest = getFastestEndpoint();
+        if (fastest != null && !fastest.equals(this.getSelectedEndpointURL())) {
+            this.fastestLabel.setHyperlinkText("Use the fastest endpoint: " + fastest + " (" + this.latencies.get(fastest) + " ms)");
+            this.fastestLabel.setVisible(true);
+        } else {
+            this.fastestLabel.setVisible(false);
+        }
+    }
+
+    private void selectFastestEndpoint() {
+        String fastest = getFastestEndpoint();
+        if (fastest != null) {
+            if (fastest.equals(QUARKUS_CODE_URL)) {
+                this.defaultRadioButton.setSelected(true);
+            } else {
+                this.customRadioButton.setSelected(true);
+                this.endpointURL.setText(fastest);
+            }
+            this.updateCustomUrl();
+            this.schedulePrefetch();
+            this.updateLatencies();
+        }
+    }
+
+    /**
+     * In offline mode, the last online endpoint is kept so that its cached model is used.
+     */
+    private String getSelectedEndpointURL() {
+        if (this.offlineRadioButton.isSelected()) {
+            return PropertiesComponent.getInstance().getValue(LAST_ENDPOINT_URL, QUARKUS_CODE_URL);
+        }
+        return this.customRadioButton.isSelected() ? this.endpointURL.getText() : QUARKUS_CODE_URL;
     }
 
     public JComponent getComponent() {
         ButtonGroup group = new ButtonGroup();
         group.add(this.defaultRadioButton);
         group.add(this.customRadioButton);
+        group.add(this.offlineRadioButton);
         ActionListener listener = new ActionListener() {
             public void actionPerformed(ActionEvent e) {
                 QuarkusCodeEndpointChooserStep.this.updateCustomUrl();
+                QuarkusCodeEndpointChooserStep.this.schedulePrefetch();
             }
         };
         this.defaultRadioButton.addActionListener(listener);
         this.customRadioButton.addActionListener(listener);
+        this.offlineRadioButton.addActionListener(listener);
         FormBuilder builder = new FormBuilder();
         builder.addComponent(new JBLabel("Choose Quarkus Code endpoint URL."));
         //builder.addVerticalSpacing();
@@ -85,16 +227,23 @@ public class QuarkusCodeEndpointChooserStep extends ModuleWizardStep {
         HyperlinkLabel label = new HyperlinkLabel(QUARKUS_CODE_URL);
         label.setHyperlinkTarget(QUARKUS_CODE_URL);
         defaultPanel.addToCenter(label);
+        defaultPanel.addToRight(this.defaultLatencyLabel);
         builder.addComponent(defaultPanel);
         BorderLayoutPanel customPanel = JBUI.Panels.simplePanel(10, 0);
         customPanel.addToLeft(this.customRadioButton);
         this.customUrlWithBrowseButton.setButtonIcon(AllIcons.Actions.ShowViewer);
         customPanel.addToCenter(this.customUrlWithBrowseButton);
         builder.addComponent(customPanel);
+        builder.addComponent(this.offlineRadioButton);
+        builder.addComponent(this.fastestLabel);
         //builder.addVerticalSpacing();
         builder.addTooltip("Make sure your network connection is active before continuing.");
         JPanel panel = new JPanel(new BorderLayout());
         panel.add(builder.getPanel(), "North");
+        if (!this.probed) {
+            this.probed = true;
+            this.probeEndpoints();
+        }
         return panel;
     }
 
@@ -107,7 +256,7 @@ public class QuarkusCodeEndpointChooserStep extends ModuleWizardStep {
     }
 
     public boolean validate() throws ConfigurationException {
-        if (this.defaultRadioButton.isSelected()) {
+        if (this.defaultRadioButton.isSelected() || this.offlineRadioButton.isSelected()) {
             return true;
         } else {
             String serviceUrl = this.endpointURL.getText();
@@ -127,7 +276,10 @@ public class QuarkusCodeEndpointChooserStep extends ModuleWizardStep {
     }
 
     public void updateDataModel() {
-        String endpointURL = this.customRadioButton.isSelected() ? this.endpointURL.getText() : QUARKUS_CODE_URL;
+        boolean offline = this.offlineRadioButton.isSelected();
+        this.wizardContext.putUserData(QuarkusConstants.WIZARD_OFFLINE_KEY, offline);
+        PropertiesComponent.getInstance().setValue(LAST_OFFLINE, offline);
+        String endpointURL = this.getSelectedEndpointURL();
         if (!Comparing.strEqual(this.wizardContext.getUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY), endpointURL)) {
             this.endpointURL.addCurrentTextToHistory();
             this.wizardContext.putUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY, endpointURL);
@@ -136,5 +288,9 @@ public class QuarkusCodeEndpointChooserStep extends ModuleWizardStep {
 
     }
 
-
+    @Override
+    public void disposeUIResources() {
+        Disposer.dispose(this.prefetchAlarm);
+        super.disposeUIResources();
+    }
 }
@@ -29,8 +29,6 @@ public class QuarkusExtension {
     @JsonProperty("order")
     private int order;
 
-    private boolean selected;
-
     public String getCategory() {
         return category;
     }
@@ -86,12 +84,4 @@ public class QuarkusExtension {
     public void setOrder(int order) {
         this.order = order;
     }
-
-    public boolean isSelected() {
-        return selected;
-    }
-
-    public void setSelected(boolean selected) {
-        this.selected = selected;
-    }
 }
@@ -0,0 +1,113 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full text index of the extensions of a {@link QuarkusModel}. Extensions are numbered in category order, each
+ * token of their id, name, short name, labels and description maps to the set of extensions containing it. A query
+ * matches the extensions containing, for each of its terms, a token starting with the term.
+ */
+public class QuarkusExtensionIndex {
+    private final List<QuarkusExtension> extensions = new ArrayList<>();
+    private final List<QuarkusCategory> categories;
+    private final int[] categoryStarts;
+    private final String[] tokens;
+    private final BitSet[] postings;
+
+    QuarkusExtensionIndex(QuarkusModel model) {
+        categories = model.getCategories();
+        categoryStarts = new int[categories.size() + 1];
+        Map<String, BitSet> tokenMap = new HashMap<>();
+        for (int i = 0; i < categories.size(); ++i) {
+            categoryStarts[i] = extensions.size();
+            for (QuarkusExtension extension : categories.get(i).getExtensions()) {
+                int ordinal = extensions.size();
+                extensions.add(extension);
+                addTokens(extension.getId(), ordinal, tokenMap);
+                addTokens(extension.getName(), ordinal, tokenMap);
+                addTokens(extension.getShortName(), ordinal, tokenMap);
+                addTokens(extension.getDescription(), ordinal, tokenMap);
+                extension.getLabels().forEach(label -> addTokens(label, ordinal, tokenMap));
+            }
+        }
+        categoryStarts[categories.size()] = extensions.size();
+        tokens = tokenMap.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+        postings = new BitSet[tokens.length];
+        for (int i = 0; i < tokens.length; ++i) {
+            postings[i] = tokenMap.get(tokens[i]);
+        }
+    }
+
+    /**
+     * @return all the extensions, the position of an extension in this list is its ordinal
+     */
+    public List<QuarkusExtension> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * @param category the category
+     * @return the ordinals of the extensions of the category
+     */
+    public BitSet getCategory(QuarkusCategory category) {
+        BitSet result = new BitSet(extensions.size());
+        int index = categories.indexOf(category);
+        if (index != -1) {
+            result.set(categoryStarts[index], categoryStarts[index + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * @param query the query
+     * @return the ordinals of the matching extensions or null if the query has no term (everything matches)
+     */
+    public BitSet search(String query) {
+        BitSet result = null;
+        for (String term : tokenize(query)) {
+            BitSet matches = new BitSet(extensions.size());
+            int index = Arrays.binarySearch(tokens, term);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            while (index < tokens.length && tokens[index].startsWith(term)) {
+                matches.or(postings[index++]);
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+        }
+        return result;
+    }
+
+    private static void addTokens(String text, int ordinal, Map<String, BitSet> tokenMap) {
+        for (String token : tokenize(text)) {
+            tokenMap.computeIfAbsent(token, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        if (text != null) {
+            int start = -1;
+            for (int i = 0; i <= text.length(); ++i) {
+                boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+                if (letter && start == -1) {
+                    start = i;
+                } else if (!letter && start != -1) {
+                    result.add(text.substring(start, i).toLowerCase());
+                    start = -1;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -6,7 +6,10 @@ import com.intellij.openapi.Disposable;
 import com.intellij.ui.BooleanTableCellRenderer;
 import com.intellij.ui.ColoredListCellRenderer;
 import com.intellij.ui.ColoredTableCellRenderer;
+import com.intellij.ui.DocumentAdapter;
 import com.intellij.ui.JBSplitter;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.SearchTextField;
 import com.intellij.ui.TableUtil;
 import com.intellij.ui.components.JBList;
 import com.intellij.ui.table.JBTable;
@@ -16,21 +19,30 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.swing.JComponent;
 import javax.swing.JList;
+import javax.swing.JPanel;
 import javax.swing.JTable;
+import javax.swing.RowFilter;
+import javax.swing.event.DocumentEvent;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.TableColumn;
+import javax.swing.table.TableRowSorter;
+import java.awt.BorderLayout;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Set;
 
 public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposable {
-    private JBSplitter panel;
+    private JPanel panel;
     private final WizardContext wizardContext;
 
     private class ExtensionsTable extends JBTable {
         private class Model extends AbstractTableModel {
             private final List<QuarkusExtension> extensions;
+            private final Set<QuarkusExtension> selectedExtensions;
 
-            private Model(List<QuarkusExtension> extensions) {
+            private Model(List<QuarkusExtension> extensions, Set<QuarkusExtension> selectedExtensions) {
                 this.extensions = extensions;
+                this.selectedExtensions = selectedExtensions;
             }
             @Override
             public int getRowCount() {
@@ -46,7 +58,7 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
             public Object getValueAt(int rowIndex, int columnIndex) {
                 QuarkusExtension extension = extensions.get(rowIndex);
                 if (columnIndex == 0) {
-                    return extension.isSelected();
+                    return selectedExtensions.contains(extension);
                 } else {
                     return extension.getName();
                 }
@@ -59,7 +71,11 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
             @Override
             public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
                 QuarkusExtension extension = extensions.get(rowIndex);
-                extension.setSelected((Boolean) aValue);
+                if ((Boolean) aValue) {
+                    selectedExtensions.add(extension);
+                } else {
+                    selectedExtensions.remove(extension);
+                }
                 fireTableCellUpdated(rowIndex, columnIndex);
             }
 
@@ -69,16 +85,23 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
             }
         }
 
-        private ExtensionsTable() {
+        private final TableRowSorter<Model> sorter;
+
+        /**
+         * The table model holds all the extensions of the index, rows are shown or hidden by the row filter.
+         */
+        private ExtensionsTable(QuarkusExtensionIndex index, Set<QuarkusExtension> selectedExtensions) {
             setShowGrid(false);
             setShowVerticalLines(false);
             this.setCellSelectionEnabled(false);
             this.setRowSelectionAllowed(true);
             this.setSelectionMode(0);
-        }
-
-        public void setExtensions(List<QuarkusExtension> extensions) {
-            setModel(new Model(extensions));
+            Model model = new Model(index.getExtensions(), selectedExtensions);
+            setModel(model);
+            sorter = new TableRowSorter<>(model);
+            sorter.setSortable(0, false);
+            sorter.setSortable(1, false);
+            setRowSorter(sorter);
             TableColumn selectedColumn = columnModel.getColumn(0);
             TableUtil.setupCheckboxColumn(this, 0);
             selectedColumn.setCellRenderer(new BooleanTableCellRenderer());
@@ -91,6 +114,18 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
                 }
             });
         }
+
+        /**
+         * @param visible the ordinals of the extensions to show
+         */
+        public void setVisibleExtensions(BitSet visible) {
+            sorter.setRowFilter(new RowFilter<Model, Integer>() {
+                @Override
+                public boolean include(Entry<? extends Model, ? extends Integer> entry) {
+                    return visible.get(entry.getIdentifier());
+                }
+            });
+        }
     }
 
     public QuarkusExtensionsStep(WizardContext wizardContext) {
@@ -100,13 +135,16 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
     @Override
     public JComponent getComponent() {
         if (panel == null && wizardContext.getUserData(QuarkusConstants.WIZARD_MODEL_KEY) != null) {
-            panel = new JBSplitter(false, 0.8f);
+            QuarkusModel model = wizardContext.getUserData(QuarkusConstants.WIZARD_MODEL_KEY);
+            QuarkusExtensionIndex index = model.getIndex();
+            panel = new JPanel(new BorderLayout());
+            JBSplitter splitter = new JBSplitter(false, 0.8f);
             /*Tree modelTree = new Tree();
             modelTree.setModel(new ModelTreeModel(wizardContext.getUserData(QuarkusConstants.WIZARD_MODEL_KEY)));
             modelTree.setCellRenderer(new ModelCellRenderer());
             modelTree.setCellEditor(new ModelCellEditor(modelTree, (DefaultTreeCellRenderer) modelTree.getCellRenderer()));
             panel.setFirstComponent(new JBScrollPane(modelTree));*/
-            JBList<QuarkusCategory> categoriesList = new JBList<>(wizardContext.getUserData(QuarkusConstants.WIZARD_MODEL_KEY).getCategories());
+            JBList<QuarkusCategory> categoriesList = new JBList<>(model.getCategories());
             ColoredListCellRenderer<QuarkusCategory> categoryRender = new ColoredListCellRenderer<QuarkusCategory>() {
                 @Override
                 protected void customizeCellRenderer(@NotNull JList<? extends QuarkusCategory> list, QuarkusCategory category, int index, boolean selected, boolean hasFocus) {
@@ -114,10 +152,48 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
                 }
             };
             categoriesList.setCellRenderer(categoryRender);
-            panel.setFirstComponent(categoriesList);
-            ExtensionsTable extensionsTable = new ExtensionsTable();
-            panel.setSecondComponent(extensionsTable);
-            categoriesList.addListSelectionListener(e -> extensionsTable.setExtensions(categoriesList.getSelectedValue().getExtensions()));
+            splitter.setFirstComponent(ScrollPaneFactory.createScrollPane(categoriesList));
+            ExtensionsTable extensionsTable = new ExtensionsTable(index, wizardContext.getUserData(QuarkusConstants.WIZARD_EXTENSIONS_KEY));
+            splitter.setSecondComponent(ScrollPaneFactory.createScrollPane(extensionsTable));
+            SearchTextField searchField = new SearchTextField(false);
+            Runnable filter = () -> {
+                BitSet visible = index.search(searchField.getText());
+                QuarkusCategory category = categoriesList.getSelectedValue();
+                if (category != null) {
+                    BitSet categoryExtensions = index.getCategory(category);
+                    if (visible == null) {
+                        visible = categoryExtensions;
+                    } else {
+                        visible.and(categoryExtensions);
+                    }
+                }
+                if (visible == null) {
+                    visible = new BitSet();
+                    visible.set(0, index.getExtensions().size());
+                }
+                extensionsTable.setVisibleExtensions(visible);
+            };
+            searchField.addDocumentListener(new DocumentAdapter() {
+                @Override
+                protected void textChanged(@NotNull DocumentEvent e) {
+                    // search across all categories
+                    if (!categoriesList.isSelectionEmpty()) {
+                        categoriesList.clearSelection();
+                    } else {
+                        filter.run();
+                    }
+                }
+            });
+            categoriesList.addListSelectionListener(e -> {
+                if (!e.getValueIsAdjusting()) {
+                    filter.run();
+                }
+            });
+            panel.add(searchField, BorderLayout.NORTH);
+            panel.add(splitter, BorderLayout.CENTER);
+            if (!model.getCategories().isEmpty()) {
+                categoriesList.setSelectedIndex(0);
+            }
         }
         return panel;
     }
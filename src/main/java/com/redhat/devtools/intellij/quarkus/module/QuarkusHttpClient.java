@@ -0,0 +1,348 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.net.HttpConfigurable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * HTTP layer for the Quarkus code endpoint traffic:
+ * <ul>
+ *     <li>connections go through the IDE proxy settings and are given back to the keep-alive pool by fully reading
+ *     the responses</li>
+ *     <li>responses are requested gzip compressed, except for resumable downloads as ranges apply to the encoded bytes</li>
+ *     <li>connect and read timeouts, retries with exponential backoff on network errors and 5xx/429 responses</li>
+ *     <li>interrupted downloads are resumed with a Range request if the server gave a strong ETag</li>
+ *     <li>each request is logged with its status and duration</li>
+ * </ul>
+ */
+public class QuarkusHttpClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusHttpClient.class);
+
+    private static final int CONNECT_TIMEOUT = 10000;
+    private static final int READ_TIMEOUT = 30000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF = 500;
+
+    private static final OutputStream NULL_OUTPUT = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    public static final QuarkusHttpClient INSTANCE = new QuarkusHttpClient();
+
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+        /**
+         * @param connection the connection, the status has already been read
+         * @param stream the decoded response body
+         * @return the result of the request
+         * @throws IOException if the response cannot be processed
+         */
+        T handle(HttpURLConnection connection, InputStream stream) throws IOException;
+    }
+
+    /**
+     * Execute a GET request, retrying on network errors and server errors.
+     *
+     * @param url the URL
+     * @param headers the request headers
+     * @param handler the response handler, called once per attempt
+     * @param indicator the progress indicator checked between attempts
+     * @return the result of the handler
+     * @throws IOException if all the attempts failed
+     */
+    public <T> T get(String url, Map<String, String> headers, ResponseHandler<T> handler, ProgressIndicator indicator) throws IOException {
+        long backoff = INITIAL_BACKOFF;
+        for (int attempt = 1; ; ++attempt) {
+            indicator.checkCanceled();
+            long start = System.currentTimeMillis();
+            HttpURLConnection connection = null;
+            int status = -1;
+            try {
+                connection = open(url, headers, true);
+                status = connection.getResponseCode();
+                log(url, status, start, attempt);
+                if (isRetryable(status) && attempt < MAX_ATTEMPTS) {
+                    release(connection.getErrorStream());
+                    connection = null;
+                } else {
+                    InputStream stream = decode(connection, status >= HttpURLConnection.HTTP_BAD_REQUEST ? connection.getErrorStream() : connection.getInputStream());
+                    T result = handler.handle(connection, stream);
+                    release(stream);
+                    return result;
+                }
+            } catch (IOException e) {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+                // client errors will not go away by retrying
+                if (attempt >= MAX_ATTEMPTS || (status >= HttpURLConnection.HTTP_BAD_REQUEST && !isRetryable(status))) {
+                    throw e;
+                }
+                LOGGER.info("GET " + url + " failed (attempt " + attempt + "), retrying in " + backoff + " ms", e);
+            }
+            sleep(backoff, indicator);
+            backoff *= 2;
+        }
+    }
+
+    /**
+     * Open a download stream that transparently reconnects with a Range request when the transfer is interrupted.
+     *
+     * @param url the URL
+     * @param indicator the progress indicator checked between attempts
+     * @return the stream
+     * @throws IOException if the download cannot be started
+     */
+    public ResumableInputStream openResumableStream(String url, ProgressIndicator indicator) throws IOException {
+        return new ResumableInputStream(url, indicator);
+    }
+
+    /**
+     * Check that an URL is reachable, without retry.
+     *
+     * @param url the URL
+     * @param timeout the connect and read timeout in milliseconds
+     * @return the round trip time in milliseconds or -1 if the URL is not reachable or answers with an error
+     */
+    public long probe(String url, int timeout) {
+        long start = System.currentTimeMillis();
+        HttpURLConnection connection = null;
+        try {
+            connection = open(url, Collections.emptyMap(), false);
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            int status = connection.getResponseCode();
+            long latency = System.currentTimeMillis() - start;
+            LOGGER.info("HEAD " + url + " -> " + status + " in " + latency + " ms");
+            return status < HttpURLConnection.HTTP_BAD_REQUEST ? latency : -1;
+        } catch (IOException e) {
+            LOGGER.info("HEAD " + url + " failed in " + (System.currentTimeMillis() - start) + " ms: " + e.getMessage());
+            if (connection != null) {
+                connection.disconnect();
+            }
+            return -1;
+        }
+    }
+
+    private HttpURLConnection open(String url, Map<String, String> headers, boolean gzip) throws IOException {
+        HttpURLConnection connection = HttpConfigurable.getInstance().openHttpConnection(url);
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(READ_TIMEOUT);
+        connection.setInstanceFollowRedirects(true);
+        connection.setRequestProperty("Connection", "keep-alive");
+        if (gzip) {
+            connection.setRequestProperty("Accept-Encoding", "gzip");
+        }
+        headers.forEach(connection::setRequestProperty);
+        return connection;
+    }
+
+    private static InputStream decode(HttpURLConnection connection, InputStream stream) throws IOException {
+        if (stream != null && "gzip".equalsIgnoreCase(connection.getContentEncoding())) {
+            return new GZIPInputStream(stream);
+        }
+        return stream;
+    }
+
+    /**
+     * Read the rest of the response so that the connection can be reused. The handler may already have closed the
+     * stream, in which case there is nothing left to do.
+     */
+    private static void release(InputStream stream) {
+        if (stream != null) {
+            try (InputStream toClose = stream) {
+                FileUtil.copy(toClose, NULL_OUTPUT);
+            } catch (IOException e) {
+                // already closed, the connection is kept alive only if the response was fully read
+            }
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        return status >= HttpURLConnection.HTTP_INTERNAL_ERROR || status == 429;
+    }
+
+    private static void log(String url, int status, long start, int attempt) {
+        LOGGER.info("GET " + url + " -> " + status + " in " + (System.currentTimeMillis() - start) + " ms" + (attempt > 1 ? " (attempt " + attempt + ")" : ""));
+    }
+
+    private static void sleep(long millis, ProgressIndicator indicator) {
+        long deadline = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < deadline) {
+            indicator.checkCanceled();
+            try {
+                Thread.sleep(Math.min(50, Math.max(1, deadline - System.currentTimeMillis())));
+            } catch (InterruptedException e) {
+                throw new ProcessCanceledException(e);
+            }
+        }
+    }
+
+    /**
+     * Stream over a download, reconnecting from the current position on network errors. Only downloads with a strong
+     * ETag are resumed, with an If-Range request: generated content may differ from one request to the next, so the
+     * bytes of another entity must never be appended to the ones already read.
+     */
+    public class ResumableInputStream extends InputStream {
+        private final String url;
+        private final ProgressIndicator indicator;
+        private final long contentLength;
+        private final String validator;
+        private HttpURLConnection connection;
+        private InputStream stream;
+        private final long begin = System.currentTimeMillis();
+        private long position;
+
+        private ResumableInputStream(String url, ProgressIndicator indicator) throws IOException {
+            this.url = url;
+            this.indicator = indicator;
+            connect(null);
+            contentLength = connection.getContentLengthLong();
+            String etag = connection.getHeaderField("ETag");
+            validator = etag != null && !etag.startsWith("W/") ? etag : null;
+        }
+
+        /**
+         * @return the length of the download or -1 if unknown
+         */
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        /**
+         * Connect, retrying with exponential backoff on network errors and 5xx/429 responses.
+         *
+         * @param cause the error that interrupted the download or null for the first connection
+         */
+        private void connect(IOException cause) throws IOException {
+            long backoff = INITIAL_BACKOFF;
+            for (int attempt = 1; ; ++attempt) {
+                if (cause != null) {
+                    LOGGER.info("Download of " + url + " failed at " + position + " bytes, retrying in " + backoff + " ms", cause);
+                    sleep(backoff, indicator);
+                    backoff *= 2;
+                }
+                indicator.checkCanceled();
+                try {
+                    connect(attempt);
+                    return;
+                } catch (UnrecoverableDownloadException e) {
+                    throw e;
+                } catch (IOException e) {
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    cause = e;
+                }
+            }
+        }
+
+        private void connect(int attempt) throws IOException {
+            long start = System.currentTimeMillis();
+            Map<String, String> headers = Collections.emptyMap();
+            if (position > 0) {
+                if (validator == null) {
+                    throw new UnrecoverableDownloadException("Download of " + url + " interrupted at " + position + " bytes cannot be resumed without a strong ETag");
+                }
+                headers = new HashMap<>();
+                headers.put("Range", "bytes=" + position + "-");
+                headers.put("If-Range", validator);
+            }
+            connection = open(url, headers, false);
+            int status = connection.getResponseCode();
+            log(url, status, start, attempt);
+            if (status == HttpURLConnection.HTTP_PARTIAL && position > 0) {
+                String range = connection.getHeaderField("Content-Range");
+                if (range == null || !range.startsWith("bytes " + position + "-")) {
+                    connection.disconnect();
+                    throw new UnrecoverableDownloadException("Unexpected range " + range + " from " + url);
+                }
+                stream = connection.getInputStream();
+            } else if (status == HttpURLConnection.HTTP_OK) {
+                // the whole entity is sent again when it changed or when the server ignores ranges
+                if (position > 0 && !validator.equals(connection.getHeaderField("ETag"))) {
+                    connection.disconnect();
+                    throw new UnrecoverableDownloadException("Download of " + url + " changed while it was resumed");
+                }
+                stream = connection.getInputStream();
+                long skipped = 0;
+                while (skipped < position) {
+                    long count = stream.skip(position - skipped);
+                    if (count <= 0) {
+                        throw new IOException("Unable to resume download of " + url);
+                    }
+                    skipped += count;
+                }
+            } else {
+                connection.disconnect();
+                String message = "Unexpected status " + status + " from " + url;
+                throw isRetryable(status) ? new IOException(message) : new UnrecoverableDownloadException(message);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int count = read(b, 0, 1);
+            return count == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int attempt = 1;
+            while (true) {
+                try {
+                    int count = stream.read(b, off, len);
+                    if (count > 0) {
+                        position += count;
+                    } else if (count == -1 && contentLength > 0 && position < contentLength) {
+                        throw new IOException("Premature end of stream");
+                    }
+                    return count;
+                } catch (IOException e) {
+                    if (attempt++ >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    connection.disconnect();
+                    connect(e);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (contentLength > 0 && position >= contentLength) {
+                LOGGER.info("Downloaded " + position + " bytes from " + url + " in " + (System.currentTimeMillis() - begin) + " ms");
+            }
+            stream.close();
+        }
+    }
+
+    /**
+     * A download error that retrying cannot fix.
+     */
+    private static class UnrecoverableDownloadException extends IOException {
+        private UnrecoverableDownloadException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.util.text.StringUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generate a Quarkus project without network access, with the same layout as the one returned by the code endpoint.
+ * Templates are looked up in the quarkus/templates folder of the IDE configuration first, so that they can be
+ * customized, then in the templates bundled with the plugin. Template variables use the ${name} syntax, unknown
+ * variables (such as Maven properties) are left untouched.
+ */
+public class QuarkusLocalProjectGenerator {
+    private static final String TEMPLATES_PATH = "templates/";
+
+    private static final String DEFAULT_EXTENSION = "io.quarkus:quarkus-resteasy";
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{([a-zA-Z_]+)}");
+
+    /**
+     * Template name to target path, relative to the project root.
+     */
+    private static final String[][] FILES = {
+            {"pom.xml", "pom.xml"},
+            {"gitignore", ".gitignore"},
+            {"application.properties", "src/main/resources/application.properties"},
+            {"ExampleResource.java", "src/main/java/${package_path}/${class_name}.java"},
+            {"ExampleResourceTest.java", "src/test/java/${package_path}/${class_name}Test.java"},
+            {"NativeExampleResourceIT.java", "src/test/java/${package_path}/Native${class_name}IT.java"}
+    };
+
+    public static final QuarkusLocalProjectGenerator INSTANCE = new QuarkusLocalProjectGenerator();
+
+    /**
+     * @param target the project root
+     * @param groupId the group id
+     * @param artifactId the artifact id
+     * @param version the version
+     * @param className the fully qualified name of the resource class
+     * @param path the path of the resource
+     * @param extensions the selected extensions
+     * @param indicator the progress indicator
+     * @return the files created
+     * @throws IOException if a template cannot be read or a file cannot be written
+     */
+    public List<File> generate(File target, String groupId, String artifactId, String version, String className,
+                               String path, Set<QuarkusExtension> extensions, ProgressIndicator indicator) throws IOException {
+        Map<String, String> variables = new HashMap<>();
+        Properties defaults = loadDefaults();
+        defaults.stringPropertyNames().forEach(name -> variables.put(name, defaults.getProperty(name)));
+        variables.put("project_groupId", groupId);
+        variables.put("project_artifactId", artifactId);
+        variables.put("project_version", version);
+        variables.put("package_name", StringUtil.getPackageName(className));
+        variables.put("package_path", StringUtil.getPackageName(className).replace('.', '/'));
+        variables.put("class_name", StringUtil.getShortName(className));
+        variables.put("resource_path", path);
+        variables.put("dependencies", getDependencies(extensions));
+        List<File> created = new ArrayList<>();
+        for (int i = 0; i < FILES.length; ++i) {
+            indicator.checkCanceled();
+            indicator.setFraction((double) i / FILES.length);
+            File file = new File(target, substitute(FILES[i][1], variables));
+            indicator.setText2(file.getName());
+            FileUtil.writeToFile(file, substitute(loadTemplate(FILES[i][0]), variables));
+            created.add(file);
+        }
+        return created;
+    }
+
+    private static String getDependencies(Set<QuarkusExtension> extensions) {
+        Set<String> ids = new LinkedHashSet<>();
+        ids.add(DEFAULT_EXTENSION);
+        for (QuarkusExtension extension : extensions) {
+            ids.add(extension.getId());
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String id : ids) {
+            int index = id.indexOf(':');
+            builder.append("    <dependency>\n");
+            builder.append("      <groupId>").append(index != -1 ? id.substring(0, index) : "io.quarkus").append("</groupId>\n");
+            builder.append("      <artifactId>").append(id.substring(index + 1)).append("</artifactId>\n");
+            builder.append("    </dependency>\n");
+        }
+        return StringUtil.trimEnd(builder.toString(), "\n");
+    }
+
+    static String substitute(String text, Map<String, String> variables) {
+        Matcher matcher = VARIABLE_PATTERN.matcher(text);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    private static Properties loadDefaults() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream stream = openTemplate("generator.properties")) {
+            properties.load(stream);
+        }
+        return properties;
+    }
+
+    private static String loadTemplate(String name) throws IOException {
+        try (InputStream stream = openTemplate(name)) {
+            return FileUtil.loadTextAndClose(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static InputStream openTemplate(String name) throws IOException {
+        File override = new File(PathManager.getConfigPath(), "quarkus/" + TEMPLATES_PATH + name);
+        if (override.exists()) {
+            return new FileInputStream(override);
+        }
+        InputStream stream = QuarkusLocalProjectGenerator.class.getResourceAsStream("/" + TEMPLATES_PATH + name);
+        if (stream == null) {
+            throw new IOException("Missing template " + name);
+        }
+        return stream;
+    }
+}
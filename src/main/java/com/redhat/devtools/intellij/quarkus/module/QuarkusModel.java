@@ -1,28 +1,103 @@
 package com.redhat.devtools.intellij.quarkus.module;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class QuarkusModel {
     private List<QuarkusCategory> categories = new ArrayList<>();
 
-    public QuarkusModel(List<QuarkusExtension> extensions) {
-        Collections.sort(extensions, (e1, e2) -> e1.getOrder() - e1.getOrder());
-        final QuarkusCategory[] currentCategory = {null};
-        extensions.forEach(e -> {
-            if (currentCategory[0] == null || !e.getCategory().equals(currentCategory[0].getName())) {
-                currentCategory[0] = new QuarkusCategory(e.getCategory());
-                categories.add(currentCategory[0]);
+    private volatile QuarkusExtensionIndex index;
+
+    public QuarkusModel(List<QuarkusCategory> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * Build the model from the /api/extensions JSON array. Extensions are grouped by category in the order the
+     * categories first appear in the catalog.
+     *
+     * @param parser the parser positioned before the array
+     * @return the model
+     * @throws IOException if the JSON cannot be read
+     */
+    public static QuarkusModel parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected an array of extensions");
+        }
+        Map<String, QuarkusCategory> categories = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            QuarkusExtension extension = parseExtension(parser);
+            categories.computeIfAbsent(extension.getCategory(), QuarkusCategory::new).getExtensions().add(extension);
+        }
+        return new QuarkusModel(new ArrayList<>(categories.values()));
+    }
+
+    private static QuarkusExtension parseExtension(JsonParser parser) throws IOException {
+        QuarkusExtension extension = new QuarkusExtension();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "category":
+                    extension.setCategory(parser.getValueAsString());
+                    break;
+                case "description":
+                    extension.setDescription(parser.getValueAsString());
+                    break;
+                case "id":
+                    extension.setId(parser.getValueAsString());
+                    break;
+                case "name":
+                    extension.setName(parser.getValueAsString());
+                    break;
+                case "shortName":
+                    extension.setShortName(parser.getValueAsString());
+                    break;
+                case "order":
+                    extension.setOrder(parser.getValueAsInt());
+                    break;
+                case "labels":
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            extension.getLabels().add(parser.getValueAsString());
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
             }
-            currentCategory[0].getExtensions().add(e);
-        });
+        }
+        return extension;
     }
+
     public List<QuarkusCategory> getCategories() {
         return categories;
     }
 
     public void setCategories(List<QuarkusCategory> categories) {
         this.categories = categories;
+        this.index = null;
+    }
+
+    /**
+     * @return the search index of the extensions, built once per model
+     */
+    public QuarkusExtensionIndex getIndex() {
+        QuarkusExtensionIndex result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    result = index = new QuarkusExtensionIndex(this);
+                }
+            }
+        }
+        return result;
     }
 }
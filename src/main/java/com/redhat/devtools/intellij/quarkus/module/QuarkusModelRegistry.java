@@ -1,39 +1,314 @@
 package com.redhat.devtools.intellij.quarkus.module;
 
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
-import com.intellij.util.io.HttpRequests;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class QuarkusModelRegistry {
-    private static final String EXTENSIONS_SUFFIX = "/api/extensions";
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusModelRegistry.class);
+
+    static final String EXTENSIONS_SUFFIX = "/api/extensions";
+
+    private static final String BUNDLED_EXTENSIONS = "/templates/extensions.json";
+
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final String URL_KEY = "url";
+
+    private static final OutputStream NULL_OUTPUT = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
 
     public static final QuarkusModelRegistry INSTANCE = new QuarkusModelRegistry();
 
-    private final Map<String, QuarkusModel> models = new HashMap<>();
+    /**
+     * Loads are single flight: concurrent callers for the same endpoint share the same future.
+     */
+    private final Map<String, CompletableFuture<QuarkusModel>> models = new ConcurrentHashMap<>();
 
-    private static final ObjectMapper mapper = new ObjectMapper();
+    /**
+     * The last background revalidation of each endpoint.
+     */
+    private final Map<String, CompletableFuture<Void>> refreshes = new ConcurrentHashMap<>();
 
+    private static final JsonFactory factory = new JsonFactory();
+
+    /**
+     * Load the Quarkus model for an endpoint. The model is served from memory, then from the disk cache (in which
+     * case it is revalidated in the background) and only fetched synchronously if it was never downloaded.
+     *
+     * @param endPointURL the Quarkus code endpoint URL
+     * @param indicator the progress indicator
+     * @return the Quarkus model
+     * @throws IOException if the model cannot be downloaded
+     */
     public QuarkusModel load(String endPointURL, ProgressIndicator indicator) throws IOException {
         indicator.setText("Looking up Quarkus model from endpoint " + endPointURL);
-        QuarkusModel model = models.get(endPointURL);
-        if (model == null) {
-            indicator.setText("Loading Quarkus model from endpoint " + endPointURL);
-            model = HttpRequests.request(endPointURL + EXTENSIONS_SUFFIX).connect(request -> {
-                try (Reader reader = request.getReader(indicator)) {
-                List<QuarkusExtension> extensions = mapper.readValue(reader, new TypeReference<List<QuarkusExtension>>() {});
-                QuarkusModel newModel = new QuarkusModel(extensions);
-                return newModel;
+        CompletableFuture<QuarkusModel> future = new CompletableFuture<>();
+        CompletableFuture<QuarkusModel> existing = models.putIfAbsent(endPointURL, future);
+        if (existing != null) {
+            return waitFor(existing, indicator);
+        }
+        try {
+            File cacheFile = getCacheFile(endPointURL);
+            QuarkusModel model = loadFromCache(endPointURL, cacheFile);
+            if (model != null) {
+                refreshes.put(endPointURL, CompletableFuture.runAsync(() -> refresh(endPointURL, cacheFile),
+                        AppExecutorUtil.getAppExecutorService()));
+            } else {
+                indicator.setText("Loading Quarkus model from endpoint " + endPointURL);
+                model = download(endPointURL, cacheFile, false, indicator);
+                if (model == null) {
+                    throw new IOException("No Quarkus model returned by endpoint " + endPointURL);
+                }
+            }
+            future.complete(model);
+            return model;
+        } catch (IOException | RuntimeException e) {
+            models.remove(endPointURL, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @param endPointURL the Quarkus code endpoint URL
+     * @return the last revalidation of the cached model of the endpoint, completed if there is none
+     */
+    CompletableFuture<Void> getRefresh(String endPointURL) {
+        return refreshes.getOrDefault(endPointURL, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Load the Quarkus model for an endpoint in the background.
+     *
+     * @param endPointURL the Quarkus code endpoint URL
+     */
+    public void prefetch(String endPointURL) {
+        if (!models.containsKey(endPointURL)) {
+            AppExecutorUtil.getAppExecutorService().execute(() -> {
+                try {
+                    load(endPointURL, new EmptyProgressIndicator());
+                } catch (IOException e) {
+                    LOGGER.info("Unable to prefetch Quarkus model for endpoint " + endPointURL, e);
                 }
             });
         }
+    }
+
+    /**
+     * Load the Quarkus model without network access: the model cached for the endpoint if it was ever downloaded,
+     * otherwise the catalog bundled with the plugin.
+     *
+     * @param endPointURL the Quarkus code endpoint URL whose cached model should be used
+     * @return the Quarkus model
+     * @throws IOException if the bundled catalog cannot be read
+     */
+    public QuarkusModel loadOffline(String endPointURL) throws IOException {
+        CompletableFuture<QuarkusModel> future = models.get(endPointURL);
+        if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+            return future.join();
+        }
+        QuarkusModel model = loadFromCache(endPointURL, getCacheFile(endPointURL));
+        if (model == null) {
+            try (InputStream stream = QuarkusModelRegistry.class.getResourceAsStream(BUNDLED_EXTENSIONS);
+                 JsonParser parser = factory.createParser(stream)) {
+                model = QuarkusModel.parse(parser);
+            }
+        }
         return model;
     }
+
+    private QuarkusModel waitFor(CompletableFuture<QuarkusModel> future, ProgressIndicator indicator) throws IOException {
+        while (true) {
+            indicator.checkCanceled();
+            try {
+                return future.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check cancellation again
+            } catch (InterruptedException e) {
+                throw new ProcessCanceledException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    private QuarkusModel loadFromCache(String endPointURL, File cacheFile) {
+        Properties metadata = loadMetadata(cacheFile);
+        if (cacheFile.exists() && endPointURL.equals(metadata.getProperty(URL_KEY))) {
+            try (JsonParser parser = factory.createParser(cacheFile)) {
+                return QuarkusModel.parse(parser);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Unable to read cached Quarkus model for endpoint " + endPointURL + ", deleting it", e);
+                FileUtil.delete(cacheFile);
+                FileUtil.delete(getMetadataFile(cacheFile));
+            }
+        }
+        return null;
+    }
+
+    private void refresh(String endPointURL, File cacheFile) {
+        try {
+            QuarkusModel model = download(endPointURL, cacheFile, true, new EmptyProgressIndicator());
+            if (model != null) {
+                models.put(endPointURL, CompletableFuture.completedFuture(model));
+            }
+        } catch (IOException e) {
+            LOGGER.info("Unable to refresh Quarkus model for endpoint " + endPointURL + ", keeping the cached one", e);
+        }
+    }
+
+    /**
+     * Download the model. The response is parsed as it streams in and copied to the cache file at the same time, then
+     * fully read so that the connection can be reused.
+     *
+     * @param revalidate true if the cached model was loaded and only needs to be revalidated
+     * @return the downloaded model or null if the cached one is still valid
+     */
+    private QuarkusModel download(String endPointURL, File cacheFile, boolean revalidate, ProgressIndicator indicator) throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        if (revalidate) {
+            Properties metadata = loadMetadata(cacheFile);
+            String etag = metadata.getProperty(ETAG_KEY);
+            if (etag != null) {
+                headers.put("If-None-Match", etag);
+            }
+            String lastModified = metadata.getProperty(LAST_MODIFIED_KEY);
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+        }
+        String url = endPointURL + EXTENSIONS_SUFFIX;
+        return QuarkusHttpClient.INSTANCE.get(url, headers, (connection, response) -> {
+            int status = connection.getResponseCode();
+            if (revalidate && status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return null;
+            }
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Unexpected status " + status + " from " + url);
+            }
+            File tmpFile = new File(cacheFile.getPath() + ".tmp");
+            FileUtil.createParentDirs(tmpFile);
+            QuarkusModel model;
+            try (OutputStream copy = new BufferedOutputStream(new FileOutputStream(tmpFile));
+                 InputStream stream = new TeeInputStream(response, copy);
+                 JsonParser parser = factory.createParser(stream)) {
+                model = QuarkusModel.parse(parser);
+                FileUtil.copy(stream, NULL_OUTPUT);
+            } catch (IOException | RuntimeException e) {
+                FileUtil.delete(tmpFile);
+                throw e;
+            }
+            store(endPointURL, cacheFile, tmpFile, connection);
+            return model;
+        }, indicator);
+    }
+
+    private void store(String endPointURL, File cacheFile, File tmpFile, HttpURLConnection connection) {
+        Properties metadata = new Properties();
+        metadata.setProperty(URL_KEY, endPointURL);
+        String etag = connection.getHeaderField("ETag");
+        if (etag != null) {
+            metadata.setProperty(ETAG_KEY, etag);
+        }
+        String lastModified = connection.getHeaderField("Last-Modified");
+        if (lastModified != null) {
+            metadata.setProperty(LAST_MODIFIED_KEY, lastModified);
+        }
+        try {
+            FileUtil.rename(tmpFile, cacheFile);
+            try (OutputStream stream = new FileOutputStream(getMetadataFile(cacheFile))) {
+                metadata.store(stream, null);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to cache Quarkus model for endpoint " + endPointURL, e);
+        }
+    }
+
+    private static Properties loadMetadata(File cacheFile) {
+        Properties metadata = new Properties();
+        File metadataFile = getMetadataFile(cacheFile);
+        if (metadataFile.exists()) {
+            try (InputStream stream = new FileInputStream(metadataFile)) {
+                metadata.load(stream);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read " + metadataFile, e);
+            }
+        }
+        return metadata;
+    }
+
+    private static File getCacheFile(String endPointURL) {
+        return new File(PathManager.getSystemPath(), "quarkus/extensions/" + FileUtil.sanitizeFileName(endPointURL) + ".json");
+    }
+
+    private static File getMetadataFile(File cacheFile) {
+        return new File(cacheFile.getPath() + ".properties");
+    }
+
+    /**
+     * Copy the bytes read from the stream to another stream.
+     */
+    private static class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        private TeeInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                copy.write(b, off, count);
+            }
+            return count;
+        }
+    }
 }
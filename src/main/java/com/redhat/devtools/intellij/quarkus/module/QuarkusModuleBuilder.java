@@ -10,30 +10,25 @@ import com.intellij.openapi.module.ModifiableModuleModel;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleWithNameAlreadyExists;
 import com.intellij.openapi.options.ConfigurationException;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.roots.ui.configuration.ModulesProvider;
+import com.intellij.openapi.startup.StartupManager;
 import com.intellij.openapi.util.InvalidDataException;
-import com.intellij.openapi.vfs.LocalFileSystem;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.newvfs.RefreshQueue;
 import com.intellij.util.Url;
 import com.intellij.util.Urls;
-import com.intellij.util.io.HttpRequests;
-import com.intellij.util.io.RequestBuilder;
 import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
 import org.jdom.JDOMException;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jetbrains.idea.maven.project.MavenProjectsManager;
-import org.zeroturnaround.zip.ZipUtil;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class QuarkusModuleBuilder extends JavaModuleBuilder {
 
@@ -81,34 +76,43 @@ public class QuarkusModuleBuilder extends JavaModuleBuilder {
         return super.modifySettingsStep(settingsStep);
     }
 
+    /**
+     * The module is created right away, the project is generated, imported and indexed by a background task once
+     * the project is initialized.
+     */
     @NotNull
     @Override
     public Module createModule(@NotNull ModifiableModuleModel moduleModel) throws InvalidDataException, IOException, ModuleWithNameAlreadyExists, JDOMException, ConfigurationException {
-        processDownload();
+        File moduleFile = new File(getContentEntryPath());
+        QuarkusModuleCreationTask.Generator generator = getGenerator(moduleFile);
         Module module = super.createModule(moduleModel);
-        processMaven(module);
+        Project project = moduleModel.getProject();
+        StartupManager.getInstance(project).runWhenProjectIsInitialized(() -> {
+            if (!module.isDisposed()) {
+                ProgressManager.getInstance().run(new QuarkusModuleCreationTask(module, moduleFile, generator));
+            }
+        });
         return module;
     }
 
-    private void processMaven(Module module) {
-        Project project = module.getProject();
-        VirtualFile pomFile = null;
-        VirtualFile[] contentRoots = ModuleRootManager.getInstance(module).getContentRoots();
-        for(VirtualFile contentRoot : contentRoots) {
-            VirtualFile child = contentRoot.findChild("pom.xml");
-            if (child != null) {
-                pomFile = child;
-                break;
-            }
-        }
-
-        if (pomFile != null) {
-            MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(project);
-            mavenProjectsManager.addManagedFiles(Collections.singletonList(pomFile));
+    /**
+     * The wizard data is captured now as the generation runs after the wizard is closed.
+     */
+    private QuarkusModuleCreationTask.Generator getGenerator(File moduleFile) {
+        if (Boolean.TRUE.equals(wizardContext.getUserData(QuarkusConstants.WIZARD_OFFLINE_KEY))) {
+            String groupId = wizardContext.getUserData(QuarkusConstants.WIZARD_GROUPID_KEY);
+            String artifactId = wizardContext.getUserData(QuarkusConstants.WIZARD_ARTIFACTID_KEY);
+            String version = wizardContext.getUserData(QuarkusConstants.WIZARD_VERSION_KEY);
+            String className = wizardContext.getUserData(QuarkusConstants.WIZARD_CLASSNAME_KEY);
+            String path = wizardContext.getUserData(QuarkusConstants.WIZARD_PATH_KEY);
+            Set<QuarkusExtension> extensions = new HashSet<>(wizardContext.getUserData(QuarkusConstants.WIZARD_EXTENSIONS_KEY));
+            return indicator -> QuarkusLocalProjectGenerator.INSTANCE.generate(moduleFile, groupId, artifactId, version, className, path, extensions, indicator);
         }
+        String downloadURL = getDownloadURL();
+        return indicator -> QuarkusProjectDownloader.download(downloadURL, moduleFile, indicator);
     }
 
-    private void processDownload() throws IOException {
+    private String getDownloadURL() {
         Url url = Urls.newFromEncoded(wizardContext.getUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY) + "/api/download");
         Map<String, String> parameters = new HashMap<>();
         parameters.put("g", wizardContext.getUserData(QuarkusConstants.WIZARD_GROUPID_KEY));
@@ -117,25 +121,10 @@ public class QuarkusModuleBuilder extends JavaModuleBuilder {
         parameters.put("c", wizardContext.getUserData(QuarkusConstants.WIZARD_CLASSNAME_KEY));
         parameters.put("v", wizardContext.getUserData(QuarkusConstants.WIZARD_PATH_KEY));
         url = url.addParameters(parameters);
-        QuarkusModel model = wizardContext.getUserData(QuarkusConstants.WIZARD_MODEL_KEY);
-        for(QuarkusCategory category : model.getCategories()) {
-            for(QuarkusExtension extension : category.getExtensions()) {
-                if (extension.isSelected()) {
-                    //url = url.addParameters(Collections.singletonMap("e", extension.getId()));
-                }
-            }
+        for(QuarkusExtension extension : wizardContext.getUserData(QuarkusConstants.WIZARD_EXTENSIONS_KEY)) {
+            //url = url.addParameters(Collections.singletonMap("e", extension.getId()));
         }
-        RequestBuilder builder = HttpRequests.request(url.toString());
-        File moduleFile = new File(getContentEntryPath());
-        builder.connect(request -> {
-            ZipUtil.unpack(request.getInputStream(), moduleFile, name -> {
-                int index = name.indexOf('/');
-                return name.substring(index);
-            });
-            return true;
-        });
-        VirtualFile vf = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(moduleFile);
-        RefreshQueue.getInstance().refresh(true, true, (Runnable)null, new VirtualFile[]{vf});
+        return url.toString();
     }
 
     @Override
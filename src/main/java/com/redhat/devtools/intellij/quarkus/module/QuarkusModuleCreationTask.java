@@ -0,0 +1,179 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.ide.util.DelegatingProgressIndicator;
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.ModifiableModuleModel;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigScanScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.idea.maven.project.MavenImportListener;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Populate a new Quarkus module in the background, with a single progress: generate the project, import the Maven
+ * project, wait for indexing then compute the Quarkus config metadata so that the first completion is served from
+ * the cache. Every wait can be cancelled, the module is removed if the project cannot be generated. If the Maven
+ * project is not imported in time, the metadata is computed on first use.
+ */
+public class QuarkusModuleCreationTask extends Task.Backgroundable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusModuleCreationTask.class);
+
+    private static final double GENERATION_END = 0.4;
+    private static final double IMPORT_END = 0.7;
+    private static final double INDEXING_END = 0.8;
+
+    private static final long IMPORT_TIMEOUT = TimeUnit.MINUTES.toMillis(2);
+
+    @FunctionalInterface
+    public interface Generator {
+        /**
+         * @param indicator the progress indicator
+         * @return the files created
+         * @throws IOException if the project cannot be generated
+         */
+        List<File> generate(ProgressIndicator indicator) throws IOException;
+    }
+
+    private final Module module;
+    private final File root;
+    private final Generator generator;
+
+    public QuarkusModuleCreationTask(Module module, File root, Generator generator) {
+        super(module.getProject(), "Creating Quarkus module " + module.getName(), true);
+        this.module = module;
+        this.root = root;
+        this.generator = generator;
+    }
+
+    @Override
+    public void run(@NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(false);
+        indicator.setText("Generating Quarkus project");
+        List<File> files;
+        try {
+            files = generator.generate(new DelegatingProgressIndicator(indicator) {
+                @Override
+                public void setFraction(double fraction) {
+                    super.setFraction(fraction * GENERATION_END);
+                }
+
+                @Override
+                public void setIndeterminate(boolean indeterminate) {
+                }
+            });
+        } catch (IOException e) {
+            removeModule();
+            notifyError("Unable to generate the Quarkus project, module " + module.getName() + " was removed: " + e.getMessage());
+            return;
+        } catch (ProcessCanceledException e) {
+            removeModule();
+            throw e;
+        }
+        // only the generated files need to be known by the VFS before the Maven import
+        LocalFileSystem.getInstance().refreshIoFiles(files, false, false, null);
+
+        indicator.setText("Importing Maven project");
+        indicator.setText2("");
+        indicator.setFraction(GENERATION_END);
+        VirtualFile pomFile = LocalFileSystem.getInstance().findFileByIoFile(new File(root, "pom.xml"));
+        if (pomFile != null) {
+            CompletableFuture<Void> imported = new CompletableFuture<>();
+            MessageBusConnection connection = myProject.getMessageBus().connect();
+            try {
+                // other Maven projects of the IDE project may be imported meanwhile
+                connection.subscribe(MavenImportListener.TOPIC, (importedProjects, newModules) -> {
+                    if (importedProjects.stream().anyMatch(mavenProject -> pomFile.equals(mavenProject.getFile()))) {
+                        imported.complete(null);
+                    }
+                });
+                MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(myProject);
+                ApplicationManager.getApplication().invokeAndWait(() -> mavenProjectsManager.addManagedFiles(Collections.singletonList(pomFile)), ModalityState.defaultModalityState());
+                if (!waitFor(imported, indicator, IMPORT_TIMEOUT)) {
+                    // failed or still running import: the metadata will be computed on first use
+                    LOGGER.info("Maven import of " + pomFile.getPath() + " not completed after " + IMPORT_TIMEOUT + "ms");
+                    indicator.setFraction(1);
+                    return;
+                }
+            } finally {
+                connection.disconnect();
+            }
+        }
+
+        indicator.setText("Indexing");
+        indicator.setFraction(IMPORT_END);
+        CompletableFuture<Void> smart = new CompletableFuture<>();
+        DumbService.getInstance(myProject).runWhenSmart(() -> smart.complete(null));
+        waitFor(smart, indicator, Long.MAX_VALUE);
+
+        indicator.setText("Computing Quarkus configuration metadata");
+        indicator.setFraction(INDEXING_END);
+        if (!module.isDisposed()) {
+            waitFor(QuarkusConfigScanScheduler.getInstance(myProject).schedule(module, QuarkusConfigScanScheduler.Priority.REQUEST), indicator, Long.MAX_VALUE);
+        }
+        indicator.setFraction(1);
+    }
+
+    /**
+     * @param timeout the maximum time to wait in milliseconds
+     * @return true if the future completed normally
+     */
+    private boolean waitFor(CompletableFuture<?> future, ProgressIndicator indicator, long timeout) {
+        long start = System.currentTimeMillis();
+        while (System.currentTimeMillis() - start < timeout) {
+            indicator.checkCanceled();
+            try {
+                future.get(100, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                // check cancellation again
+            } catch (InterruptedException e) {
+                throw new ProcessCanceledException(e);
+            } catch (ExecutionException | RuntimeException e) {
+                // the metadata will be computed on first use
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove the module created by the wizard when its project could not be generated.
+     */
+    private void removeModule() {
+        ApplicationManager.getApplication().invokeAndWait(() -> {
+            if (!module.isDisposed()) {
+                ModifiableModuleModel model = ModuleManager.getInstance(myProject).getModifiableModel();
+                model.disposeModule(module);
+                WriteAction.run(model::commit);
+            }
+        }, ModalityState.defaultModalityState());
+    }
+
+    private void notifyError(String message) {
+        Notifications.Bus.notify(new Notification("Quarkus", "Quarkus module creation", message, NotificationType.ERROR), myProject);
+    }
+}
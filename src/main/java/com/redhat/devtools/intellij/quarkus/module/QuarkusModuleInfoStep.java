@@ -16,6 +16,7 @@ import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
 import java.awt.BorderLayout;
 import java.io.IOException;
+import java.util.HashSet;
 
 public class QuarkusModuleInfoStep extends ModuleWizardStep implements Disposable {
     private final JBLoadingPanel panel = new JBLoadingPanel(new BorderLayout(), this, 300);
@@ -64,8 +65,13 @@ public class QuarkusModuleInfoStep extends ModuleWizardStep implements Disposabl
             }
         };
         try {
-            QuarkusModel model = QuarkusModelRegistry.INSTANCE.load(context.getUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY), indicator);
+            String endpointURL = context.getUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY);
+            QuarkusModel model = Boolean.TRUE.equals(context.getUserData(QuarkusConstants.WIZARD_OFFLINE_KEY)) ?
+                    QuarkusModelRegistry.INSTANCE.loadOffline(endpointURL) :
+                    QuarkusModelRegistry.INSTANCE.load(endpointURL, indicator);
             context.putUserData(QuarkusConstants.WIZARD_MODEL_KEY, model);
+            // the model is shared by all the wizards, the selection belongs to this one
+            context.putUserData(QuarkusConstants.WIZARD_EXTENSIONS_KEY, new HashSet<>());
             final FormBuilder formBuilder = new FormBuilder();
             groupIdField = new JBTextField("org.acme");
             formBuilder.addLabeledComponent("Group:", groupIdField);
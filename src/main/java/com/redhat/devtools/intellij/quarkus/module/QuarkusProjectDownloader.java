@@ -0,0 +1,113 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.io.FileUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Download a generated project and unpack it while it streams in: entries are written to disk as soon as they are
+ * received, so the project is ready when the download completes. Interrupted transfers are resumed where they
+ * stopped when the server identifies the content with a strong ETag, otherwise the download fails.
+ */
+public class QuarkusProjectDownloader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * @param url the download URL
+     * @param target the target directory, the root folder of the zip is stripped
+     * @param indicator the progress indicator, checked for cancellation for each chunk
+     * @return the files and directories created
+     * @throws IOException if the download or the unpack failed
+     */
+    public static List<File> download(String url, File target, ProgressIndicator indicator) throws IOException {
+        try (QuarkusHttpClient.ResumableInputStream stream = QuarkusHttpClient.INSTANCE.openResumableStream(url, indicator)) {
+            long total = stream.getContentLength();
+            indicator.setIndeterminate(total <= 0);
+            return unpack(new CountingInputStream(stream, total, indicator), target, indicator);
+        }
+    }
+
+    static List<File> unpack(InputStream stream, File target, ProgressIndicator indicator) throws IOException {
+        List<File> created = new ArrayList<>();
+        String targetPath = target.getCanonicalPath() + File.separator;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (ZipInputStream zip = new ZipInputStream(stream)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                indicator.checkCanceled();
+                String name = entry.getName();
+                int index = name.indexOf('/');
+                name = name.substring(index + 1);
+                if (name.isEmpty()) {
+                    continue;
+                }
+                File file = new File(target, name);
+                if (!file.getCanonicalPath().startsWith(targetPath)) {
+                    throw new IOException("Invalid entry " + entry.getName());
+                }
+                indicator.setText2(name);
+                if (entry.isDirectory()) {
+                    FileUtil.createDirectory(file);
+                } else {
+                    FileUtil.createParentDirs(file);
+                    try (OutputStream out = new FileOutputStream(file)) {
+                        int count;
+                        while ((count = zip.read(buffer)) > 0) {
+                            out.write(buffer, 0, count);
+                        }
+                    }
+                }
+                created.add(file);
+            }
+        }
+        return created;
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final long total;
+        private final ProgressIndicator indicator;
+        private long count;
+
+        private CountingInputStream(InputStream in, long total, ProgressIndicator indicator) {
+            super(in);
+            this.total = total;
+            this.indicator = indicator;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                progress(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                progress(read);
+            }
+            return read;
+        }
+
+        private void progress(int read) {
+            indicator.checkCanceled();
+            count += read;
+            if (total > 0) {
+                indicator.setFraction((double) count / total);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.redhat.devtools.intellij.quarkus.search;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectManager;
 import com.intellij.openapi.roots.ProjectFileIndex;
@@ -53,7 +54,7 @@ public class PSIQuarkusManager {
     public static final PSIQuarkusManager INSTANCE = new PSIQuarkusManager();
     private static final List<String> NUMBER_TYPES = Arrays.asList("short", "int", "long", "double", "float");
 
-    private static Module getModule(String uri) {
+    public static Module getModule(String uri) {
         try {
             VirtualFile file = LocalFileSystem.getInstance().findFileByIoFile(Paths.get(new URI(uri)).toFile());
             for(Project project : ProjectManager.getInstance().getOpenProjects()) {
@@ -84,25 +85,57 @@ public class PSIQuarkusManager {
 
     @NotNull
     public List<ExtendedConfigDescriptionBuildItem> getConfigItems(Module module) {
+        return getConfigItems(module, new HashMap<>());
+    }
+
+    /**
+     * @param module the module
+     * @param fields filled with the field of each property, by property name
+     * @return the config items of the module
+     */
+    @NotNull
+    public List<ExtendedConfigDescriptionBuildItem> getConfigItems(Module module, Map<String, PsiField> fields) {
         List<ExtendedConfigDescriptionBuildItem> configItems = new ArrayList<>();
         Map<PsiDirectory, Properties> javaDocCache = new HashMap<>();
         if (module != null) {
             getQuery(CONFIG_ROOT_ANNOTATION, module).forEach(psiClass -> {
-                process(psiClass, javaDocCache, configItems);
+                ProgressManager.checkCanceled();
+                process(psiClass, javaDocCache, fields, configItems);
             });
         }
         return configItems;
     }
 
-    private void process(PsiClass psiClass, Map<PsiDirectory, Properties> javaDocCache, List<ExtendedConfigDescriptionBuildItem> configItems) {
+    /**
+     * @param module the module
+     * @return the <code>@ConfigRoot</code> classes of the module and its dependencies
+     */
+    public Query<PsiClass> getConfigRoots(Module module) {
+        return getQuery(CONFIG_ROOT_ANNOTATION, module);
+    }
+
+    /**
+     * @param configRoot a <code>@ConfigRoot</code> class
+     * @param javaDocCache the javadoc of the fields, by package root, shared by the config roots of a scan
+     * @param fields filled with the field of each property, by property name
+     * @return the config items of the config root
+     */
+    @NotNull
+    public List<ExtendedConfigDescriptionBuildItem> getConfigItems(PsiClass configRoot, Map<PsiDirectory, Properties> javaDocCache, Map<String, PsiField> fields) {
+        List<ExtendedConfigDescriptionBuildItem> configItems = new ArrayList<>();
+        process(configRoot, javaDocCache, fields, configItems);
+        return configItems;
+    }
+
+    private void process(PsiClass psiClass, Map<PsiDirectory, Properties> javaDocCache, Map<String, PsiField> fields, List<ExtendedConfigDescriptionBuildItem> configItems) {
         for(PsiAnnotation annotation : psiClass.getAnnotations()) {
             if (annotation.getQualifiedName().equals(CONFIG_ROOT_ANNOTATION)) {
-                processConfigRoot(annotation, psiClass, javaDocCache, configItems);
+                processConfigRoot(annotation, psiClass, javaDocCache, fields, configItems);
             }
         }
     }
 
-    private void processConfigRoot(PsiAnnotation configRootAnnotation, PsiClass psiClass, Map<PsiDirectory, Properties> javaDocCache, List<ExtendedConfigDescriptionBuildItem> configItems) {
+    private void processConfigRoot(PsiAnnotation configRootAnnotation, PsiClass psiClass, Map<PsiDirectory, Properties> javaDocCache, Map<String, PsiField> fields, List<ExtendedConfigDescriptionBuildItem> configItems) {
         ConfigPhase configPhase = getConfigPhase(configRootAnnotation);
         String configRootAnnotationName = getConfigRootName(configRootAnnotation);
         String extension = getExtensionName(getSimpleName(psiClass), configRootAnnotationName, configPhase);
@@ -114,7 +147,7 @@ public class PSIQuarkusManager {
         String location = packageRoot.getName();
         String extensionName = getExtensionName(location);
         String baseKey = QUARKUS_PREFIX + extension;
-        processConfigGroup(location, extensionName, psiClass, baseKey, configPhase, javaDocCache, configItems);
+        processConfigGroup(location, extensionName, psiClass, baseKey, configPhase, javaDocCache, fields, configItems);
     }
 
     private String getExtensionName(String location) {
@@ -140,7 +173,7 @@ public class PSIQuarkusManager {
         return extensionName;
     }
 
-    private void processConfigGroup(String location, String extensionName, PsiClass psiClass, String baseKey, ConfigPhase configPhase, Map<PsiDirectory, Properties> javaDocCache, List<ExtendedConfigDescriptionBuildItem> configItems) {
+    private void processConfigGroup(String location, String extensionName, PsiClass psiClass, String baseKey, ConfigPhase configPhase, Map<PsiDirectory, Properties> javaDocCache, Map<String, PsiField> fields, List<ExtendedConfigDescriptionBuildItem> configItems) {
         for(PsiField field : psiClass.getAllFields()) {
             PsiFile f = PsiTreeUtil.getParentOfType(field, PsiFile.class);
             PsiDirectory dir = getRootDirectory(f);
@@ -176,10 +209,10 @@ public class PSIQuarkusManager {
                     CONFIG_GROUP_ANNOTATION);
             if (configGroupAnnotation != null) {
                 processConfigGroup(location, extensionName, fieldClass, subKey, configPhase,
-                        javaDocCache, configItems);
+                        javaDocCache, fields, configItems);
             } else {
                 addField(location, extensionName, field, fieldTypeName, fieldClass, subKey, defaultValue,
-                        configPhase, javaDocCache, configItems);
+                        configPhase, javaDocCache, fields, configItems);
             }
         }
     }
@@ -195,20 +228,23 @@ public class PSIQuarkusManager {
         return dir;
     }
 
-    private void addField(String location, String extensionName, PsiField field, String fieldTypeName, PsiClass fieldClass, String propertyName, String defaultValue, ConfigPhase configPhase, Map<PsiDirectory, Properties> javaDocCache, List<ExtendedConfigDescriptionBuildItem> configItems) {
+    private void addField(String location, String extensionName, PsiField field, String fieldTypeName, PsiClass fieldClass, String propertyName, String defaultValue, ConfigPhase configPhase, Map<PsiDirectory, Properties> javaDocCache, Map<String, PsiField> fields, List<ExtendedConfigDescriptionBuildItem> configItems) {
         // Class type
         String type = fieldClass != null ? fieldClass.getQualifiedName() : fieldTypeName;
 
-        // Javadoc
-        String docs = getJavadoc(field, javaDocCache);
-        //docs = converter.convert(docs);
-
         // field and class source
         String source = field.getContainingClass().getQualifiedName() + "#" + field.getName();
 
+        // Javadoc
+        String docs = getJavadoc(field, javaDocCache);
+
         // Enumerations
         List<String> enumerations = getEnumerations(fieldClass);
 
+        if (!isMap(fieldTypeName)) {
+            fields.put(propertyName, field);
+        }
+
         // Default value for primitive type
         if ("boolean".equals(fieldTypeName)) {
             addField(propertyName, type, ConfigItem.NO_DEFAULT.equals(defaultValue) ? "propertyNamefalse" : defaultValue, docs,
@@ -224,7 +260,7 @@ public class PSIQuarkusManager {
             if ((rawTypeParameters[0].trim().equals("java.lang.String"))) {
                 // The key Map must be a String
                 processMap(field, propertyName, rawTypeParameters[1], docs, location, extensionName, source, configPhase,
-                        javaDocCache, configItems);
+                        javaDocCache, fields, configItems);
             }
         } else if (isList(fieldTypeName)) {
             addField(propertyName, type, defaultValue, docs, location, extensionName, source, enumerations, configPhase,
@@ -239,14 +275,14 @@ public class PSIQuarkusManager {
         }
     }
 
-    private void processMap(PsiField field, String baseKey, String mapValueClass, String docs, String location, String extensionName, String source, ConfigPhase configPhase, Map<PsiDirectory, Properties> javaDocCache, List<ExtendedConfigDescriptionBuildItem> configItems) {
+    private void processMap(PsiField field, String baseKey, String mapValueClass, String docs, String location, String extensionName, String source, ConfigPhase configPhase, Map<PsiDirectory, Properties> javaDocCache, Map<String, PsiField> fields, List<ExtendedConfigDescriptionBuildItem> configItems) {
         final String subKey = baseKey + ".{*}";
         if ("java.util.Map".equals(mapValueClass)) {
             // ignore, Map must be parameterized
         } else if (isMap(mapValueClass)) {
             String[] rawTypeParameters = getRawTypeParameters(mapValueClass);
             processMap(field, subKey, rawTypeParameters[1], docs, location, extensionName, source, configPhase,
-                    javaDocCache, configItems);
+                    javaDocCache, fields, configItems);
         } else if (isOptional(mapValueClass)) {
             // Optionals are not allowed as a map value type
         } else {
@@ -255,10 +291,10 @@ public class PSIQuarkusManager {
                 // This case comes from when mapValueClass is:
                 // - Simple type, like java.lang.String
                 // - Type which cannot be found (bad classpath?)
-                addField(location, extensionName, field, mapValueClass, null, subKey, null, configPhase, javaDocCache,
+                addField(location, extensionName, field, mapValueClass, null, subKey, null, configPhase, javaDocCache, fields,
                         configItems);
             } else {
-                processConfigGroup(location, extensionName, type, subKey, configPhase, javaDocCache, configItems);
+                processConfigGroup(location, extensionName, type, subKey, configPhase, javaDocCache, fields, configItems);
             }
         }
     }
@@ -0,0 +1,144 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BK-tree of the property names of a snapshot, for the Levenshtein distance. A query only visits the children whose
+ * distance to their parent is within the tolerance of the distance between the query and the parent, so a lookup
+ * compares the key to a small fraction of the names.
+ * Map properties are matched by also querying the variants of the key where one segment is replaced by
+ * <code>{*}</code>, the segment of the key being put back into the suggestion.
+ */
+public class QuarkusConfigKeyBKTree {
+    private static class Node {
+        private final String key;
+        private Map<Integer, Node> children;
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private Node root;
+
+    public QuarkusConfigKeyBKTree(List<ExtendedConfigDescriptionBuildItem> items) {
+        for (ExtendedConfigDescriptionBuildItem item : items) {
+            ProgressManager.checkCanceled();
+            add(item.getPropertyName());
+        }
+    }
+
+    private void add(String key) {
+        if (root == null) {
+            root = new Node(key);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                return;
+            }
+            if (node.children == null) {
+                node.children = new HashMap<>();
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * @param key the unknown key, without profile
+     * @param limit the maximum number of suggestions
+     * @return the known keys nearest to the key, nearest first
+     */
+    public List<String> suggest(String key, int limit) {
+        int maxDistance = Math.max(1, Math.min(3, key.length() / 8));
+        List<String> segments = QuarkusConfigKeyTrie.split(key);
+        Map<String, Integer> suggestions = new LinkedHashMap<>();
+        collect(key, segments, -1, maxDistance, suggestions);
+        for (int i = 0; i < segments.size(); ++i) {
+            List<String> variant = new ArrayList<>(segments);
+            variant.set(i, QuarkusConfigKeyTrie.WILDCARD);
+            collect(String.join(".", variant), segments, i, maxDistance, suggestions);
+        }
+        List<String> result = new ArrayList<>(suggestions.keySet());
+        result.sort((s1, s2) -> Integer.compare(suggestions.get(s1), suggestions.get(s2)));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private void collect(String query, List<String> segments, int wildcardIndex, int maxDistance, Map<String, Integer> suggestions) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            ProgressManager.checkCanceled();
+            Node node = nodes.pop();
+            int distance = distance(query, node.key);
+            if (distance <= maxDistance) {
+                String suggestion = instantiate(node.key, segments, wildcardIndex);
+                // a remaining wildcard cannot be suggested as is
+                if (!suggestion.contains(QuarkusConfigKeyTrie.WILDCARD) && !suggestion.equals(String.join(".", segments))) {
+                    suggestions.merge(suggestion, distance, Math::min);
+                }
+            }
+            if (node.children != null) {
+                for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; ++d) {
+                    Node child = node.children.get(d);
+                    if (child != null) {
+                        nodes.push(child);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the wildcard of a known key by the segment of the key it was matched against.
+     */
+    private static String instantiate(String knownKey, List<String> segments, int wildcardIndex) {
+        if (wildcardIndex == -1) {
+            return knownKey;
+        }
+        List<String> knownSegments = QuarkusConfigKeyTrie.split(knownKey);
+        if (knownSegments.size() > wildcardIndex && QuarkusConfigKeyTrie.WILDCARD.equals(knownSegments.get(wildcardIndex))) {
+            knownSegments.set(wildcardIndex, segments.get(wildcardIndex));
+        }
+        return String.join(".", knownSegments);
+    }
+
+    static int distance(String s1, String s2) {
+        int[] previous = new int[s2.length() + 1];
+        int[] current = new int[s2.length() + 1];
+        for (int j = 0; j <= s2.length(); ++j) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= s1.length(); ++i) {
+            current[0] = i;
+            char c = s1.charAt(i - 1);
+            for (int j = 1; j <= s2.length(); ++j) {
+                int cost = c == s2.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[s2.length()];
+    }
+}
@@ -0,0 +1,114 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trie of the property names of a snapshot, one node per key segment. The <code>{*}</code> segments of map
+ * properties are wildcard nodes matching any segment, quoted or not. Matching a key costs one hash lookup per segment
+ * (plus backtracking between an exact segment and a wildcard, which is rare).
+ */
+public class QuarkusConfigKeyTrie {
+    public static final String WILDCARD = "{*}";
+
+    private static class Node {
+        private Map<String, Node> children;
+        private Node wildcard;
+        private ExtendedConfigDescriptionBuildItem item;
+
+        private Node getOrCreate(String segment) {
+            if (WILDCARD.equals(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(segment, k -> new Node());
+        }
+
+        private Node get(String segment) {
+            return children != null ? children.get(segment) : null;
+        }
+    }
+
+    private final Node root = new Node();
+
+    public QuarkusConfigKeyTrie(List<ExtendedConfigDescriptionBuildItem> items) {
+        for (ExtendedConfigDescriptionBuildItem item : items) {
+            Node node = root;
+            for (String segment : split(item.getPropertyName())) {
+                node = node.getOrCreate(segment);
+            }
+            node.item = item;
+        }
+    }
+
+    /**
+     * @param key the key, with or without profile
+     * @return the metadata of the property or null if the key is unknown
+     */
+    @Nullable
+    public ExtendedConfigDescriptionBuildItem match(String key) {
+        List<String> segments = split(stripProfile(key));
+        return segments.isEmpty() ? null : match(root, segments, 0);
+    }
+
+    private static ExtendedConfigDescriptionBuildItem match(Node node, List<String> segments, int index) {
+        if (index == segments.size()) {
+            return node.item;
+        }
+        Node child = node.get(segments.get(index));
+        if (child != null) {
+            ExtendedConfigDescriptionBuildItem item = match(child, segments, index + 1);
+            if (item != null) {
+                return item;
+            }
+        }
+        return node.wildcard != null ? match(node.wildcard, segments, index + 1) : null;
+    }
+
+    /**
+     * @param key the key
+     * @return the key without its <code>%profile.</code> prefix
+     */
+    public static String stripProfile(String key) {
+        if (key.startsWith("%")) {
+            int index = key.indexOf('.');
+            return index != -1 ? key.substring(index + 1) : "";
+        }
+        return key;
+    }
+
+    /**
+     * Split a key on dots, except the dots inside quoted segments. Quotes are kept.
+     *
+     * @param key the key
+     * @return the segments
+     */
+    public static List<String> split(String key) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i < key.length(); ++i) {
+            char c = key.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '.' && !quoted) {
+                segments.add(key.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (start < key.length() || !segments.isEmpty()) {
+            segments.add(key.substring(start));
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,192 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the Quarkus config metadata of the modules of a project. Config roots are only collected from
+ * jars (see {@link PSIQuarkusManager}), so a snapshot stays valid until the project roots change, and is only
+ * recomputed if the classpath of the module changed. Snapshots are persisted with {@link QuarkusConfigSnapshotStore}.
+ * The items of each config root are kept until the project roots change, so that an interrupted scan is resumed.
+ */
+public class QuarkusConfigMetadataService {
+    private final Project project;
+
+    private final Map<Module, QuarkusConfigSnapshot> snapshots = ContainerUtil.createConcurrentWeakMap();
+
+    /**
+     * The config items and fields of a config root class.
+     */
+    private static class ConfigRootItems {
+        private final List<ExtendedConfigDescriptionBuildItem> items;
+        private final Map<String, SmartPsiElementPointer<PsiField>> fields;
+
+        private ConfigRootItems(List<ExtendedConfigDescriptionBuildItem> items, Map<String, SmartPsiElementPointer<PsiField>> fields) {
+            this.items = items;
+            this.fields = fields;
+        }
+    }
+
+    private final Map<String, ConfigRootItems> configRoots = new ConcurrentHashMap<>();
+    private volatile long configRootsModificationCount = -1;
+
+    public QuarkusConfigMetadataService(Project project) {
+        this.project = project;
+    }
+
+    public static QuarkusConfigMetadataService getInstance(Project project) {
+        return ServiceManager.getService(project, QuarkusConfigMetadataService.class);
+    }
+
+    /**
+     * Return the cached snapshot for the module if it is still valid, never compute it.
+     *
+     * @param module the module
+     * @return the valid snapshot or null
+     */
+    @Nullable
+    public QuarkusConfigSnapshot getCachedSnapshot(Module module) {
+        QuarkusConfigSnapshot snapshot = snapshots.get(module);
+        return snapshot != null && isValid(snapshot) ? snapshot : null;
+    }
+
+    /**
+     * Return the last computed snapshot for the module, even if it is not valid anymore, never compute it.
+     *
+     * @param module the module
+     * @return the last known snapshot or null
+     */
+    @Nullable
+    public QuarkusConfigSnapshot getLastKnownSnapshot(Module module) {
+        return snapshots.get(module);
+    }
+
+    /**
+     * Return the snapshot for the module, computing it if needed. Must be called inside a read action.
+     *
+     * @param module the module
+     * @return the snapshot
+     */
+    @NotNull
+    public QuarkusConfigSnapshot getSnapshot(Module module) {
+        ApplicationManager.getApplication().assertReadAccessAllowed();
+        QuarkusConfigSnapshot snapshot = getCachedSnapshot(module);
+        if (snapshot == null) {
+            long rootsModificationCount = getRootsModificationCount();
+            long fingerprint = QuarkusConfigSnapshotStore.INSTANCE.getFingerprint(module);
+            QuarkusConfigSnapshot lastKnown = snapshots.get(module);
+            if (lastKnown != null && lastKnown.getFingerprint() == fingerprint) {
+                // roots changed but not the classpath of this module
+                snapshot = lastKnown.withRootsModificationCount(rootsModificationCount);
+                snapshots.put(module, snapshot);
+            } else {
+                Map<String, SmartPsiElementPointer<PsiField>> fields = new HashMap<>();
+                List<ExtendedConfigDescriptionBuildItem> configItems = scan(module, fields, rootsModificationCount);
+                snapshot = new QuarkusConfigSnapshot(configItems, fields, rootsModificationCount, fingerprint);
+                snapshots.put(module, snapshot);
+                QuarkusConfigSnapshot toSave = snapshot;
+                AppExecutorUtil.getAppExecutorService().execute(() -> QuarkusConfigSnapshotStore.INSTANCE.save(module, toSave));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Collect the config items of the config roots of a module. The items of each config root are kept until the
+     * project roots change, so a scan cancelled by a write action resumes from the config roots already processed,
+     * and config roots shared by several modules are processed once.
+     */
+    private List<ExtendedConfigDescriptionBuildItem> scan(Module module, Map<String, SmartPsiElementPointer<PsiField>> fields, long rootsModificationCount) {
+        if (configRootsModificationCount != rootsModificationCount) {
+            configRoots.clear();
+            configRootsModificationCount = rootsModificationCount;
+        }
+        List<ExtendedConfigDescriptionBuildItem> configItems = new ArrayList<>();
+        Map<PsiDirectory, Properties> javaDocCache = new HashMap<>();
+        for (PsiClass psiClass : PSIQuarkusManager.INSTANCE.getConfigRoots(module)) {
+            ProgressManager.checkCanceled();
+            String key = getKey(psiClass);
+            ConfigRootItems configRoot = key != null ? configRoots.get(key) : null;
+            if (configRoot == null) {
+                Map<String, PsiField> rootFields = new HashMap<>();
+                List<ExtendedConfigDescriptionBuildItem> items = PSIQuarkusManager.INSTANCE.getConfigItems(psiClass, javaDocCache, rootFields);
+                configRoot = new ConfigRootItems(items, createPointers(rootFields));
+                if (key != null) {
+                    configRoots.put(key, configRoot);
+                }
+            }
+            configItems.addAll(configRoot.items);
+            fields.putAll(configRoot.fields);
+        }
+        return configItems;
+    }
+
+    /**
+     * @return the key of a config root: its name and the path of its class file, which includes the jar version
+     */
+    @Nullable
+    private static String getKey(PsiClass psiClass) {
+        VirtualFile file = PsiUtilCore.getVirtualFile(psiClass);
+        return file != null ? psiClass.getQualifiedName() + "!" + file.getPath() : null;
+    }
+
+    /**
+     * Load the snapshot stored on disk for the module if it was computed for the current classpath.
+     *
+     * @param module the module
+     * @return true if a snapshot was loaded
+     */
+    public boolean loadStoredSnapshot(Module module) {
+        QuarkusConfigSnapshot snapshot = ReadAction.compute(() -> module.isDisposed() ? null : QuarkusConfigSnapshotStore.INSTANCE.load(module,
+                QuarkusConfigSnapshotStore.INSTANCE.getFingerprint(module), getRootsModificationCount()));
+        if (snapshot != null) {
+            snapshots.putIfAbsent(module, snapshot);
+            return true;
+        }
+        return false;
+    }
+
+    @NotNull
+    public List<ExtendedConfigDescriptionBuildItem> getConfigItems(Module module) {
+        return getSnapshot(module).getConfigItems();
+    }
+
+    private Map<String, SmartPsiElementPointer<PsiField>> createPointers(Map<String, PsiField> fields) {
+        SmartPointerManager manager = SmartPointerManager.getInstance(project);
+        Map<String, SmartPsiElementPointer<PsiField>> pointers = new HashMap<>(fields.size());
+        fields.forEach((name, field) -> pointers.put(name, manager.createSmartPsiElementPointer(field)));
+        return pointers;
+    }
+
+    private boolean isValid(QuarkusConfigSnapshot snapshot) {
+        return snapshot.getRootsModificationCount() == getRootsModificationCount();
+    }
+
+    private long getRootsModificationCount() {
+        return ProjectRootManager.getInstance(project).getModificationCount();
+    }
+}
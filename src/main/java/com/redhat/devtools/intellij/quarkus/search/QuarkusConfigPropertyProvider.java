@@ -0,0 +1,233 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.PsiVariable;
+import com.intellij.psi.impl.java.stubs.index.JavaAnnotationIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.Alarm;
+import com.intellij.util.containers.ContainerUtil;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.CONFIG_PROPERTY_ANNOTATION;
+
+/**
+ * Config items of the application properties injected with <code>@ConfigProperty</code> in the sources of a module.
+ * Injection points are found with the Java annotation stub index, and the items of a file are only computed again when
+ * the file was modified, so the items follow the edits of the user without scanning the sources. Listeners are notified
+ * when the injection points of a module may have changed.
+ */
+public class QuarkusConfigPropertyProvider {
+    private static final String CONFIG_PROPERTY_SHORT_NAME = StringUtil.getShortName(CONFIG_PROPERTY_ANNOTATION);
+
+    /**
+     * Default value of <code>@ConfigProperty#defaultValue</code>.
+     */
+    private static final String UNCONFIGURED_VALUE = "org.eclipse.microprofile.config.configproperty.unconfigureddvalue";
+
+    private static class FileItems {
+        private final long modificationStamp;
+        private final List<ExtendedConfigDescriptionBuildItem> items;
+
+        private FileItems(long modificationStamp, List<ExtendedConfigDescriptionBuildItem> items) {
+            this.modificationStamp = modificationStamp;
+            this.items = items;
+        }
+    }
+
+    private static final int CHANGE_DELAY = 500;
+
+    private final Project project;
+
+    private final Map<VirtualFile, FileItems> cache = ContainerUtil.createConcurrentWeakMap();
+
+    private final Set<VirtualFile> changedFiles = ContainerUtil.newConcurrentSet();
+
+    private final List<Consumer<Module>> listeners = ContainerUtil.createLockFreeCopyOnWriteList();
+
+    private final Alarm alarm;
+
+    public QuarkusConfigPropertyProvider(Project project) {
+        this.project = project;
+        this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, project);
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                sourceChanged(event.getFile());
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                sourceChanged(event.getFile());
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                sourceChanged(event.getFile());
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                sourceChanged(event.getFile());
+            }
+        }, project);
+    }
+
+    /**
+     * @param listener called with the module when the <code>@ConfigProperty</code> injection points of its sources
+     *                 may have changed
+     * @param parentDisposable the listener is removed when disposed
+     */
+    public void addListener(Consumer<Module> listener, Disposable parentDisposable) {
+        ContainerUtil.add(listener, listeners, parentDisposable);
+    }
+
+    private void sourceChanged(@Nullable PsiFile file) {
+        if (file instanceof PsiJavaFile && file.getVirtualFile() != null && !listeners.isEmpty()) {
+            changedFiles.add(file.getVirtualFile());
+            alarm.cancelAllRequests();
+            alarm.addRequest(this::notifyListeners, CHANGE_DELAY);
+        }
+    }
+
+    /**
+     * Notify the modules of the changed files declaring or having declared injection points.
+     */
+    private void notifyListeners() {
+        Set<Module> modules = new HashSet<>();
+        ReadAction.run(() -> {
+            for (VirtualFile file : changedFiles) {
+                changedFiles.remove(file);
+                FileItems fileItems = cache.get(file);
+                PsiFile psiFile = file.isValid() ? PsiManager.getInstance(project).findFile(file) : null;
+                if ((fileItems != null && !fileItems.items.isEmpty()) || (psiFile != null && psiFile.getText().contains(CONFIG_PROPERTY_SHORT_NAME))) {
+                    Module module = ModuleUtilCore.findModuleForFile(file, project);
+                    if (module != null) {
+                        modules.add(module);
+                    }
+                }
+            }
+        });
+        for (Module module : modules) {
+            listeners.forEach(listener -> listener.accept(module));
+        }
+    }
+
+    public static QuarkusConfigPropertyProvider getInstance(Project project) {
+        return ServiceManager.getService(project, QuarkusConfigPropertyProvider.class);
+    }
+
+    /**
+     * Must be called inside a read action, in smart mode.
+     *
+     * @param module the module
+     * @return the config items injected in the sources of the module
+     */
+    @NotNull
+    public List<ExtendedConfigDescriptionBuildItem> getConfigItems(Module module) {
+        ApplicationManager.getApplication().assertReadAccessAllowed();
+        Map<PsiFile, List<PsiAnnotation>> annotations = new LinkedHashMap<>();
+        for (PsiAnnotation annotation : JavaAnnotationIndex.getInstance().get(CONFIG_PROPERTY_SHORT_NAME, project, GlobalSearchScope.moduleScope(module))) {
+            annotations.computeIfAbsent(annotation.getContainingFile(), file -> new ArrayList<>()).add(annotation);
+        }
+        List<ExtendedConfigDescriptionBuildItem> items = new ArrayList<>();
+        for (Map.Entry<PsiFile, List<PsiAnnotation>> entry : annotations.entrySet()) {
+            items.addAll(getConfigItems(entry.getKey(), entry.getValue()));
+        }
+        return items;
+    }
+
+    private List<ExtendedConfigDescriptionBuildItem> getConfigItems(PsiFile file, Collection<PsiAnnotation> annotations) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile == null) {
+            return Collections.emptyList();
+        }
+        FileItems fileItems = cache.get(virtualFile);
+        if (fileItems == null || fileItems.modificationStamp != file.getModificationStamp()) {
+            List<ExtendedConfigDescriptionBuildItem> items = new ArrayList<>();
+            for (PsiAnnotation annotation : annotations) {
+                if (CONFIG_PROPERTY_ANNOTATION.equals(annotation.getQualifiedName())) {
+                    ExtendedConfigDescriptionBuildItem item = createItem(annotation, virtualFile);
+                    if (item != null) {
+                        items.add(item);
+                    }
+                }
+            }
+            fileItems = new FileItems(file.getModificationStamp(), items);
+            cache.put(virtualFile, fileItems);
+        }
+        return fileItems.items;
+    }
+
+    @Nullable
+    private static ExtendedConfigDescriptionBuildItem createItem(PsiAnnotation annotation, VirtualFile file) {
+        PsiModifierListOwner owner = PsiTreeUtil.getParentOfType(annotation, PsiModifierListOwner.class);
+        if (!(owner instanceof PsiField) && !(owner instanceof PsiParameter)) {
+            return null;
+        }
+        PsiVariable variable = (PsiVariable) owner;
+        PsiClass containingClass = PsiTreeUtil.getParentOfType(variable, PsiClass.class);
+        String name = getAttribute(annotation, "name");
+        if (StringUtil.isEmpty(name)) {
+            // default name of an injected field: <class>.<field>
+            if (!(variable instanceof PsiField) || containingClass == null) {
+                return null;
+            }
+            name = containingClass.getQualifiedName() + "." + variable.getName();
+        }
+        String type = variable.getType().getCanonicalText();
+        String defaultValue = getAttribute(annotation, "defaultValue");
+        if (UNCONFIGURED_VALUE.equals(defaultValue)) {
+            defaultValue = null;
+        }
+
+        ExtendedConfigDescriptionBuildItem item = new ExtendedConfigDescriptionBuildItem();
+        item.setPropertyName(name);
+        item.setType(type);
+        item.setDefaultValue(defaultValue);
+        item.setLocation(file.getName());
+        item.setSource(containingClass != null ? containingClass.getQualifiedName() + "#" + variable.getName() : null);
+        item.setPhase(ExtendedConfigDescriptionBuildItem.CONFIG_PHASE_RUN_TIME);
+        item.setRequired(defaultValue == null && !type.startsWith("java.util.Optional"));
+        return item;
+    }
+
+    /**
+     * @return the value of the attribute, constants being evaluated, or null if not declared or not a constant
+     */
+    @Nullable
+    private static String getAttribute(PsiAnnotation annotation, String attribute) {
+        return AnnotationUtil.getDeclaredStringAttributeValue(annotation, attribute);
+    }
+}
@@ -0,0 +1,291 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerEvent;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Schedule the computation of the config metadata of the modules of a project:
+ * <ul>
+ *     <li>the module of the focused editor runs first, then modules requested by the language server, then background work</li>
+ *     <li>the number of concurrent scans is limited to a quarter of the cores</li>
+ *     <li>scans wait for smart mode, background scans are deferred while the user is typing and all scans yield to write actions</li>
+ *     <li>a scan cancelled by a write action resumes from the config roots already processed, a focused or requested
+ *     scan cancelled too often stops yielding</li>
+ * </ul>
+ */
+public class QuarkusConfigScanScheduler implements Disposable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusConfigScanScheduler.class);
+
+    /**
+     * Internal setting without UI: the share of the cores used by the scans, stored in {@link PropertiesComponent}.
+     */
+    public static final String CORES_SHARE_KEY = "quarkus.config.scan.cores.share";
+    private static final float DEFAULT_CORES_SHARE = 0.25f;
+
+    private static final long TYPING_DELAY = 500;
+    private static final long RETRY_DELAY = 100;
+
+    /**
+     * Cancellations after which a focused or requested scan stops yielding to write actions.
+     */
+    private static final int MAX_RETRIES = 20;
+
+    public enum Priority {
+        FOCUSED, REQUEST, BACKGROUND
+    }
+
+    private class ScanRequest implements Comparable<ScanRequest> {
+        private final Module module;
+        private final long sequence;
+        private final CompletableFuture<QuarkusConfigSnapshot> future = new CompletableFuture<>();
+        private Priority priority;
+        private int retries;
+
+        private ScanRequest(Module module, Priority priority, long sequence) {
+            this.module = module;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        private Priority getEffectivePriority() {
+            return module.equals(focusedModule) ? Priority.FOCUSED : priority;
+        }
+
+        @Override
+        public int compareTo(@NotNull ScanRequest o) {
+            int result = getEffectivePriority().compareTo(o.getEffectivePriority());
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
+        }
+    }
+
+    private final Project project;
+
+    private final Map<Module, ScanRequest> requests = new HashMap<>();
+    private final PriorityQueue<ScanRequest> queue = new PriorityQueue<>();
+    private long sequence;
+    private int running;
+    private boolean waitingForSmartMode;
+    private boolean pumpScheduled;
+
+    private volatile Module focusedModule;
+    private volatile long lastTyping;
+
+    public QuarkusConfigScanScheduler(Project project) {
+        this.project = project;
+        EditorFactory.getInstance().getEventMulticaster().addDocumentListener(new DocumentListener() {
+            @Override
+            public void documentChanged(@NotNull DocumentEvent event) {
+                lastTyping = System.currentTimeMillis();
+            }
+        }, this);
+        project.getMessageBus().connect(this).subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, new FileEditorManagerListener() {
+            @Override
+            public void selectionChanged(@NotNull FileEditorManagerEvent event) {
+                setFocusedFile(event.getNewFile());
+            }
+        });
+        // the editor selected before the service is created does not fire selectionChanged
+        VirtualFile[] selectedFiles = FileEditorManager.getInstance(project).getSelectedFiles();
+        if (selectedFiles.length > 0) {
+            focusedModule = ModuleUtilCore.findModuleForFile(selectedFiles[0], project);
+        }
+    }
+
+    public static QuarkusConfigScanScheduler getInstance(Project project) {
+        return ServiceManager.getService(project, QuarkusConfigScanScheduler.class);
+    }
+
+    /**
+     * Return immediately the metadata of a module. If the cached snapshot is not valid anymore and the IDE is
+     * indexing, the last known snapshot (or an empty one) is returned marked as stale and a refresh is scheduled:
+     * the refreshed snapshot is passed to the given callback once smart mode returns.
+     *
+     * @param module the module
+     * @param priority the priority of the computation
+     * @param onRefresh the callback receiving the refreshed snapshot if a stale one was returned
+     * @return the future snapshot
+     */
+    public CompletableFuture<QuarkusConfigSnapshot> scheduleOrServeStale(Module module, Priority priority, Consumer<QuarkusConfigSnapshot> onRefresh) {
+        QuarkusConfigMetadataService service = QuarkusConfigMetadataService.getInstance(project);
+        if (service.getCachedSnapshot(module) == null && DumbService.isDumb(project)) {
+            QuarkusConfigSnapshot lastKnown = service.getLastKnownSnapshot(module);
+            schedule(module, priority).thenAccept(onRefresh);
+            return CompletableFuture.completedFuture(lastKnown != null ? lastKnown.asStale() : QuarkusConfigSnapshot.empty());
+        }
+        return schedule(module, priority);
+    }
+
+    /**
+     * Schedule the computation of the config metadata of a module. If a computation is already pending for the
+     * module, its priority is raised if needed and its future is returned.
+     *
+     * @param module the module
+     * @param priority the priority
+     * @return the future snapshot
+     */
+    public CompletableFuture<QuarkusConfigSnapshot> schedule(Module module, Priority priority) {
+        QuarkusConfigSnapshot snapshot = QuarkusConfigMetadataService.getInstance(project).getCachedSnapshot(module);
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        ScanRequest request;
+        synchronized (this) {
+            request = requests.get(module);
+            if (request == null) {
+                request = new ScanRequest(module, priority, sequence++);
+                requests.put(module, request);
+                queue.add(request);
+            } else if (priority.compareTo(request.priority) < 0 && queue.remove(request)) {
+                request.priority = priority;
+                queue.add(request);
+            }
+        }
+        pump();
+        return request.future;
+    }
+
+    private void setFocusedFile(VirtualFile file) {
+        Module module = file != null ? ModuleUtilCore.findModuleForFile(file, project) : null;
+        synchronized (this) {
+            focusedModule = module;
+            // priorities depend on the focused module, rebuild the heap
+            PriorityQueue<ScanRequest> copy = new PriorityQueue<>(queue);
+            queue.clear();
+            queue.addAll(copy);
+        }
+        pump();
+    }
+
+    private int getMaxConcurrency() {
+        float share = PropertiesComponent.getInstance().getFloat(CORES_SHARE_KEY, DEFAULT_CORES_SHARE);
+        return Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * share));
+    }
+
+    private boolean isTyping() {
+        return System.currentTimeMillis() - lastTyping < TYPING_DELAY;
+    }
+
+    private synchronized void pump() {
+        if (project.isDisposed()) {
+            return;
+        }
+        int maxConcurrency = getMaxConcurrency();
+        while (running < maxConcurrency && !queue.isEmpty()) {
+            if (DumbService.isDumb(project)) {
+                if (!waitingForSmartMode) {
+                    waitingForSmartMode = true;
+                    DumbService.getInstance(project).runWhenSmart(() -> {
+                        synchronized (this) {
+                            waitingForSmartMode = false;
+                        }
+                        pump();
+                    });
+                }
+                return;
+            }
+            ScanRequest request = queue.peek();
+            if (request.getEffectivePriority() == Priority.BACKGROUND && isTyping()) {
+                schedulePump(TYPING_DELAY);
+                return;
+            }
+            queue.poll();
+            running++;
+            AppExecutorUtil.getAppExecutorService().execute(() -> run(request));
+        }
+    }
+
+    private synchronized void schedulePump(long delay) {
+        if (!pumpScheduled) {
+            pumpScheduled = true;
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+                synchronized (this) {
+                    pumpScheduled = false;
+                }
+                pump();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void run(ScanRequest request) {
+        QuarkusConfigSnapshot[] snapshot = {null};
+        boolean completed = false;
+        try {
+            if (request.module.isDisposed()) {
+                request.future.cancel(false);
+                completed = true;
+            } else {
+                Runnable scan = () -> {
+                    if (!DumbService.isDumb(project)) {
+                        snapshot[0] = QuarkusConfigMetadataService.getInstance(project).getSnapshot(request.module);
+                    }
+                };
+                if (request.retries >= MAX_RETRIES && request.getEffectivePriority() != Priority.BACKGROUND) {
+                    // the config roots processed by the cancelled attempts are kept, only the remaining ones block writes
+                    ReadAction.run(scan::run);
+                    completed = snapshot[0] != null;
+                } else {
+                    // the read action is cancelled as soon as a write action is requested, the scan is then resumed
+                    completed = ProgressIndicatorUtils.runInReadActionWithWriteActionPriority(scan) && snapshot[0] != null;
+                }
+                if (!completed) {
+                    request.retries++;
+                }
+                if (completed) {
+                    request.future.complete(snapshot[0]);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to compute Quarkus config metadata for module " + request.module.getName(), e);
+            request.future.completeExceptionally(e);
+            completed = true;
+        } finally {
+            synchronized (this) {
+                running--;
+                if (completed) {
+                    requests.remove(request.module);
+                } else {
+                    queue.add(request);
+                }
+            }
+        }
+        if (completed) {
+            pump();
+        } else {
+            schedulePump(RETRY_DELAY);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            requests.values().forEach(request -> request.future.cancel(false));
+            requests.clear();
+            queue.clear();
+        }
+    }
+}
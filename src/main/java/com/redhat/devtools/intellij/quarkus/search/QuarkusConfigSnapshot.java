@@ -0,0 +1,200 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.psi.PsiField;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable result of a config metadata computation for a module. A stale snapshot is a last known good
+ * snapshot served while the metadata cannot be computed (dumb mode).
+ */
+public class QuarkusConfigSnapshot {
+    private final List<ExtendedConfigDescriptionBuildItem> configItems;
+    private final Map<String, SmartPsiElementPointer<PsiField>> fields;
+    private final long rootsModificationCount;
+    private final long fingerprint;
+    private final boolean stale;
+
+    private volatile QuarkusConfigKeyTrie keyTrie;
+    private volatile QuarkusConfigValueValidators valueValidators;
+    private volatile QuarkusConfigKeyBKTree keyBKTree;
+    private volatile List<ExtendedConfigDescriptionBuildItem> languageServerItems;
+
+    public QuarkusConfigSnapshot(List<ExtendedConfigDescriptionBuildItem> configItems, long rootsModificationCount, long fingerprint) {
+        this(configItems, Collections.emptyMap(), rootsModificationCount, fingerprint);
+    }
+
+    /**
+     * @param configItems the config items
+     * @param fields the pointers to the field of each property, by property name
+     * @param rootsModificationCount the roots modification count the snapshot was computed for
+     * @param fingerprint the fingerprint of the module classpath
+     */
+    public QuarkusConfigSnapshot(List<ExtendedConfigDescriptionBuildItem> configItems, Map<String, SmartPsiElementPointer<PsiField>> fields, long rootsModificationCount, long fingerprint) {
+        this(Collections.unmodifiableList(configItems), fields, rootsModificationCount, fingerprint, false);
+    }
+
+    private QuarkusConfigSnapshot(List<ExtendedConfigDescriptionBuildItem> configItems, Map<String, SmartPsiElementPointer<PsiField>> fields, long rootsModificationCount, long fingerprint, boolean stale) {
+        this.configItems = configItems;
+        this.fields = fields;
+        this.rootsModificationCount = rootsModificationCount;
+        this.fingerprint = fingerprint;
+        this.stale = stale;
+    }
+
+    public static QuarkusConfigSnapshot empty() {
+        return new QuarkusConfigSnapshot(Collections.emptyList(), Collections.emptyMap(), -1, 0, true);
+    }
+
+    public List<ExtendedConfigDescriptionBuildItem> getConfigItems() {
+        return configItems;
+    }
+
+    /**
+     * The items of the snapshot keep the raw javadoc, the language server expects Markdown.
+     *
+     * @return the config items sent to the language server, with the javadoc rendered as Markdown, built once per
+     * snapshot
+     */
+    public List<ExtendedConfigDescriptionBuildItem> getLanguageServerItems() {
+        List<ExtendedConfigDescriptionBuildItem> result = languageServerItems;
+        if (result == null) {
+            synchronized (this) {
+                result = languageServerItems;
+                if (result == null) {
+                    result = new ArrayList<>(configItems.size());
+                    for (ExtendedConfigDescriptionBuildItem item : configItems) {
+                        result.add(toMarkdown(item));
+                    }
+                    result = languageServerItems = Collections.unmodifiableList(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the item or a copy of the item with the javadoc rendered as Markdown if it differs
+     */
+    private static ExtendedConfigDescriptionBuildItem toMarkdown(ExtendedConfigDescriptionBuildItem item) {
+        String markdown = QuarkusJavadocRenderer.INSTANCE.toMarkdown(item.getLocation(), item.getSource(), item.getDocs());
+        if (Objects.equals(markdown, item.getDocs())) {
+            return item;
+        }
+        ExtendedConfigDescriptionBuildItem copy = new ExtendedConfigDescriptionBuildItem();
+        copy.setPropertyName(item.getPropertyName());
+        copy.setType(item.getType());
+        copy.setDefaultValue(item.getDefaultValue());
+        copy.setDocs(markdown);
+        copy.setExtensionName(item.getExtensionName());
+        copy.setLocation(item.getLocation());
+        copy.setSource(item.getSource());
+        copy.setPhase(item.getPhase());
+        copy.setRequired(item.isRequired());
+        copy.setEnums(item.getEnums());
+        return copy;
+    }
+
+    /**
+     * @param propertyName the property name, as defined by the metadata (with <code>{*}</code> for map segments)
+     * @return the pointer to the field of the property or null if the snapshot was loaded from disk
+     */
+    @Nullable
+    public SmartPsiElementPointer<PsiField> getField(String propertyName) {
+        return fields.get(propertyName);
+    }
+
+    /**
+     * @return the trie of the property names, built once per snapshot
+     */
+    public QuarkusConfigKeyTrie getKeyTrie() {
+        QuarkusConfigKeyTrie result = keyTrie;
+        if (result == null) {
+            synchronized (this) {
+                result = keyTrie;
+                if (result == null) {
+                    result = keyTrie = new QuarkusConfigKeyTrie(configItems);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the validators of the property values, compiled once per snapshot
+     */
+    public QuarkusConfigValueValidators getValueValidators() {
+        QuarkusConfigValueValidators result = valueValidators;
+        if (result == null) {
+            synchronized (this) {
+                result = valueValidators;
+                if (result == null) {
+                    result = valueValidators = new QuarkusConfigValueValidators(configItems);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the edit distance index of the property names, built once per snapshot
+     */
+    public QuarkusConfigKeyBKTree getKeyBKTree() {
+        QuarkusConfigKeyBKTree result = keyBKTree;
+        if (result == null) {
+            synchronized (this) {
+                result = keyBKTree;
+                if (result == null) {
+                    result = keyBKTree = new QuarkusConfigKeyBKTree(configItems);
+                }
+            }
+        }
+        return result;
+    }
+
+    public long getRootsModificationCount() {
+        return rootsModificationCount;
+    }
+
+    /**
+     * @return the fingerprint of the module classpath the snapshot was computed from
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public QuarkusConfigSnapshot asStale() {
+        return stale ? this : share(new QuarkusConfigSnapshot(configItems, fields, rootsModificationCount, fingerprint, true));
+    }
+
+    /**
+     * Revalidate the snapshot for new project roots having the same classpath fingerprint.
+     *
+     * @param rootsModificationCount the new roots modification count
+     * @return the revalidated snapshot
+     */
+    public QuarkusConfigSnapshot withRootsModificationCount(long rootsModificationCount) {
+        return share(new QuarkusConfigSnapshot(configItems, fields, rootsModificationCount, fingerprint, false));
+    }
+
+    /**
+     * Share the structures derived from the config items with a copy of this snapshot.
+     */
+    private QuarkusConfigSnapshot share(QuarkusConfigSnapshot copy) {
+        copy.keyTrie = keyTrie;
+        copy.valueValidators = valueValidators;
+        copy.keyBKTree = keyBKTree;
+        return copy;
+    }
+}
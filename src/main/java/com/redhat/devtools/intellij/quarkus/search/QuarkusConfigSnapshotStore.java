@@ -0,0 +1,228 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persist the config metadata snapshots of the modules in the IDE system directory so that they survive
+ * restarts. A stored snapshot is only loaded if the fingerprint of the module classpath did not change.
+ * <p>
+ * The format is a string table (all strings are deduplicated, locations, types and extension names repeat a lot)
+ * followed by the items, each field being a variable length index in the string table.
+ */
+public class QuarkusConfigSnapshotStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusConfigSnapshotStore.class);
+
+    public static final QuarkusConfigSnapshotStore INSTANCE = new QuarkusConfigSnapshotStore();
+
+    private static final int MAGIC = 0x51434d44;
+    private static final int VERSION = 2;
+
+    /**
+     * Compute the fingerprint of the module classpath: the libraries paths, sizes and timestamps. Must be called
+     * inside a read action.
+     *
+     * @param module the module
+     * @return the fingerprint
+     */
+    public long getFingerprint(Module module) {
+        long hash = 17;
+        for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+            hash = 31 * hash + root.getUrl().hashCode();
+            VirtualFile file = VfsUtilCore.getVirtualFileForJar(root);
+            if (file == null) {
+                file = root;
+            }
+            hash = 31 * hash + file.getLength();
+            hash = 31 * hash + file.getTimeStamp();
+        }
+        return hash;
+    }
+
+    public void save(Module module, QuarkusConfigSnapshot snapshot) {
+        File file = getFile(module);
+        File tmp = new File(file.getPath() + ".tmp");
+        try {
+            FileUtil.createParentDirs(file);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                write(out, snapshot);
+            }
+            FileUtil.rename(tmp, file);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to store Quarkus config metadata of module " + module.getName(), e);
+            FileUtil.delete(tmp);
+        }
+    }
+
+    /**
+     * Load the stored snapshot of a module.
+     *
+     * @param module the module
+     * @param fingerprint the current fingerprint of the module classpath
+     * @param rootsModificationCount the current roots modification count
+     * @return the stored snapshot or null if there is none or if it was computed for another classpath
+     */
+    @Nullable
+    public QuarkusConfigSnapshot load(Module module, long fingerprint, long rootsModificationCount) {
+        File file = getFile(module);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fingerprint) {
+                return null;
+            }
+            return new QuarkusConfigSnapshot(readItems(in, file.length()), rootsModificationCount, fingerprint);
+        } catch (IOException | RuntimeException e) {
+            // corrupt file, the snapshot is computed again
+            LOGGER.warn("Unable to load Quarkus config metadata of module " + module.getName(), e);
+            FileUtil.delete(file);
+            return null;
+        }
+    }
+
+    private File getFile(Module module) {
+        File dir = new File(PathManager.getSystemPath(), "quarkus/config/" + module.getProject().getLocationHash());
+        return new File(dir, FileUtil.sanitizeFileName(module.getName()) + ".bin");
+    }
+
+    private void write(DataOutput out, QuarkusConfigSnapshot snapshot) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(snapshot.getFingerprint());
+        List<String> strings = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        List<ExtendedConfigDescriptionBuildItem> items = snapshot.getConfigItems();
+        for (ExtendedConfigDescriptionBuildItem item : items) {
+            index(item.getPropertyName(), strings, indexes);
+            index(item.getType(), strings, indexes);
+            index(item.getDefaultValue(), strings, indexes);
+            index(item.getDocs(), strings, indexes);
+            index(item.getExtensionName(), strings, indexes);
+            index(item.getLocation(), strings, indexes);
+            index(item.getSource(), strings, indexes);
+            if (item.getEnums() != null) {
+                item.getEnums().forEach(value -> index(value, strings, indexes));
+            }
+        }
+        DataInputOutputUtil.writeINT(out, strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            DataInputOutputUtil.writeINT(out, bytes.length);
+            out.write(bytes);
+        }
+        DataInputOutputUtil.writeINT(out, items.size());
+        for (ExtendedConfigDescriptionBuildItem item : items) {
+            writeString(out, item.getPropertyName(), indexes);
+            writeString(out, item.getType(), indexes);
+            writeString(out, item.getDefaultValue(), indexes);
+            writeString(out, item.getDocs(), indexes);
+            writeString(out, item.getExtensionName(), indexes);
+            writeString(out, item.getLocation(), indexes);
+            writeString(out, item.getSource(), indexes);
+            DataInputOutputUtil.writeINT(out, item.getPhase());
+            out.writeBoolean(item.isRequired());
+            List<String> enums = item.getEnums();
+            DataInputOutputUtil.writeINT(out, enums != null ? enums.size() + 1 : 0);
+            if (enums != null) {
+                for (String value : enums) {
+                    writeString(out, value, indexes);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param maxSize the size of the file, which bounds the sizes read
+     */
+    private List<ExtendedConfigDescriptionBuildItem> readItems(DataInput in, long maxSize) throws IOException {
+        String[] strings = new String[readSize(in, maxSize)];
+        for (int i = 0; i < strings.length; ++i) {
+            byte[] bytes = new byte[readSize(in, maxSize)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        int count = readSize(in, maxSize);
+        List<ExtendedConfigDescriptionBuildItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            ExtendedConfigDescriptionBuildItem item = new ExtendedConfigDescriptionBuildItem();
+            item.setPropertyName(readString(in, strings));
+            item.setType(readString(in, strings));
+            item.setDefaultValue(readString(in, strings));
+            item.setDocs(readString(in, strings));
+            item.setExtensionName(readString(in, strings));
+            item.setLocation(readString(in, strings));
+            item.setSource(readString(in, strings));
+            item.setPhase(DataInputOutputUtil.readINT(in));
+            item.setRequired(in.readBoolean());
+            int enumCount = readSize(in, maxSize);
+            if (enumCount > 0) {
+                List<String> enums = new ArrayList<>(enumCount - 1);
+                for (int j = 1; j < enumCount; ++j) {
+                    enums.add(readString(in, strings));
+                }
+                item.setEnums(enums);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static void index(String s, List<String> strings, Map<String, Integer> indexes) {
+        if (s != null && !indexes.containsKey(s)) {
+            indexes.put(s, strings.size());
+            strings.add(s);
+        }
+    }
+
+    /**
+     * Strings are written as their index + 1, 0 meaning null.
+     */
+    private static void writeString(DataOutput out, String s, Map<String, Integer> indexes) throws IOException {
+        DataInputOutputUtil.writeINT(out, s != null ? indexes.get(s) + 1 : 0);
+    }
+
+    private static String readString(DataInput in, String[] strings) throws IOException {
+        int index = DataInputOutputUtil.readINT(in);
+        if (index < 0 || index > strings.length) {
+            throw new IOException("Invalid string index " + index);
+        }
+        return index == 0 ? null : strings[index - 1];
+    }
+
+    /**
+     * Each element of a table takes at least one byte, so a size larger than the file is corrupt.
+     */
+    private static int readSize(DataInput in, long maxSize) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        if (size < 0 || size > maxSize) {
+            throw new IOException("Invalid size " + size);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,182 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Validators of the property values of a snapshot, compiled once per distinct type so that validating a value does
+ * not parse the type again. The accepted formats follow the Quarkus converters.
+ */
+public class QuarkusConfigValueValidators {
+    @FunctionalInterface
+    public interface Validator {
+        /**
+         * @param value the value
+         * @return the error message or null if the value is valid
+         */
+        @Nullable
+        String validate(String value);
+    }
+
+    private static final Validator ANY = value -> null;
+
+    private static final Set<String> BOOLEANS = new HashSet<>(Arrays.asList("true", "false", "yes", "no", "y", "n", "on", "off", "1", "0"));
+
+    private static final Pattern SECONDS = Pattern.compile("[-+]?\\d+");
+
+    private static final Pattern MEMORY_SIZE = Pattern.compile("\\d+[BbKkMmGgTtPpEeZzYy]?");
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("(?<!\\\\),");
+
+    private static final String OPTIONAL = "java.util.Optional";
+
+    private final Map<String, Validator> validators = new HashMap<>();
+
+    public QuarkusConfigValueValidators(List<ExtendedConfigDescriptionBuildItem> items) {
+        for (ExtendedConfigDescriptionBuildItem item : items) {
+            if (item.getType() != null) {
+                validators.computeIfAbsent(item.getType(), type -> compile(type, item.getEnums()));
+            }
+        }
+    }
+
+    /**
+     * @param item the property
+     * @param value the value, without expressions
+     * @return the error message or null if the value is valid or the type is not validated
+     */
+    @Nullable
+    public String validate(ExtendedConfigDescriptionBuildItem item, String value) {
+        Validator validator = item.getType() != null ? validators.get(item.getType()) : null;
+        return validator != null ? validator.validate(value) : null;
+    }
+
+    /**
+     * @param enums the enum constants of the type, or of its element type for optional and collection types
+     */
+    static Validator compile(String type, @Nullable List<String> enums) {
+        if (type.startsWith(OPTIONAL + "<")) {
+            return compile(getTypeParameter(type), enums);
+        }
+        if (type.startsWith("java.util.List<") || type.startsWith("java.util.Set<")) {
+            return listValidator(compile(getTypeParameter(type), enums));
+        }
+        if (enums != null && !enums.isEmpty()) {
+            return enumValidator(enums);
+        }
+        switch (type) {
+            case "boolean":
+            case "java.lang.Boolean":
+                return value -> BOOLEANS.contains(value.toLowerCase(Locale.ROOT)) ? null : "'" + value + "' is not a boolean";
+            case "byte":
+            case "java.lang.Byte":
+                return rangeValidator(Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case "short":
+            case "java.lang.Short":
+                return rangeValidator(Short.MIN_VALUE, Short.MAX_VALUE);
+            case "int":
+            case "java.lang.Integer":
+            case OPTIONAL + "Int":
+                return rangeValidator(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case "long":
+            case "java.lang.Long":
+            case OPTIONAL + "Long":
+                return rangeValidator(Long.MIN_VALUE, Long.MAX_VALUE);
+            case "float":
+            case "java.lang.Float":
+            case "double":
+            case "java.lang.Double":
+            case OPTIONAL + "Double":
+                return QuarkusConfigValueValidators::validateDecimal;
+            case "char":
+            case "java.lang.Character":
+                return value -> value.length() == 1 ? null : "'" + value + "' is not a single character";
+            case "java.time.Duration":
+                return QuarkusConfigValueValidators::validateDuration;
+            case "io.quarkus.runtime.configuration.MemorySize":
+                return value -> MEMORY_SIZE.matcher(value).matches() ? null : "'" + value + "' is not a memory size (e.g. 512M)";
+            default:
+                return ANY;
+        }
+    }
+
+    private static Validator enumValidator(List<String> enums) {
+        Set<String> values = new HashSet<>();
+        for (String value : enums) {
+            values.add(normalizeEnum(value));
+        }
+        return value -> values.contains(normalizeEnum(value)) ? null : "'" + value + "' is not one of " + String.join(", ", enums);
+    }
+
+    /**
+     * Enum constants may be written hyphenated and in any case.
+     */
+    private static String normalizeEnum(String value) {
+        return value.toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private static Validator rangeValidator(long min, long max) {
+        return value -> {
+            try {
+                long number = Long.parseLong(value);
+                return number >= min && number <= max ? null : "'" + value + "' is out of range [" + min + ", " + max + "]";
+            } catch (NumberFormatException e) {
+                return "'" + value + "' is not an integer";
+            }
+        };
+    }
+
+    private static Validator listValidator(Validator elementValidator) {
+        if (elementValidator == ANY) {
+            return ANY;
+        }
+        return value -> {
+            for (String element : LIST_SEPARATOR.split(value)) {
+                String message = elementValidator.validate(element.trim());
+                if (message != null) {
+                    return message;
+                }
+            }
+            return null;
+        };
+    }
+
+    private static String validateDecimal(String value) {
+        try {
+            Double.parseDouble(value);
+            return null;
+        } catch (NumberFormatException e) {
+            return "'" + value + "' is not a number";
+        }
+    }
+
+    /**
+     * A number of seconds or an ISO-8601 duration, the <code>PT</code> prefix being optional.
+     */
+    private static String validateDuration(String value) {
+        if (SECONDS.matcher(value).matches()) {
+            return null;
+        }
+        try {
+            Duration.parse(value.startsWith("P") || value.startsWith("p") ? value : "PT" + value);
+            return null;
+        } catch (DateTimeParseException e) {
+            return "'" + value + "' is not a duration (e.g. 10s, 5M, PT1H)";
+        }
+    }
+
+    private static String getTypeParameter(String type) {
+        return type.substring(type.indexOf('<') + 1, type.lastIndexOf('>')).trim();
+    }
+}
@@ -0,0 +1,52 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compute the config metadata of the Quarkus modules once indexing is finished so that the first
+ * completion in application.properties is served from the cache. Snapshots stored by a previous session are loaded
+ * first if the classpath did not change.
+ */
+public class QuarkusConfigWarmupActivity implements StartupActivity {
+    @Override
+    public void runActivity(@NotNull Project project) {
+        AppExecutorUtil.getAppExecutorService().execute(() -> load(project));
+    }
+
+    /**
+     * Load the snapshots stored on disk (no need to wait for indexing) then schedule the computation of the others
+     * once indexing is finished.
+     */
+    private void load(Project project) {
+        if (project.isDisposed()) {
+            return;
+        }
+        List<Module> modules = ReadAction.compute(() -> Stream.of(ModuleManager.getInstance(project).getModules())
+                .filter(QuarkusModuleUtil::isQuarkusModule).collect(Collectors.toList()));
+        QuarkusConfigMetadataService service = QuarkusConfigMetadataService.getInstance(project);
+        List<Module> toCompute = modules.stream().filter(module -> !service.loadStoredSnapshot(module)).collect(Collectors.toList());
+        if (!toCompute.isEmpty()) {
+            DumbService.getInstance(project).runWhenSmart(() -> warmup(project, toCompute));
+        }
+    }
+
+    private void warmup(Project project, List<Module> modules) {
+        if (project.isDisposed()) {
+            return;
+        }
+        QuarkusConfigScanScheduler scheduler = QuarkusConfigScanScheduler.getInstance(project);
+        modules.stream().filter(module -> !module.isDisposed()).forEach(module -> scheduler.schedule(module, QuarkusConfigScanScheduler.Priority.BACKGROUND));
+    }
+}
@@ -0,0 +1,184 @@
+package com.redhat.devtools.intellij.quarkus.search;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Render the javadoc of the config items as Markdown (sent to the language server) and HTML (IDE documentation).
+ * Each javadoc is rendered once: the results are kept in a LRU cache keyed by the jar and the field, shared by all
+ * the modules of all the projects. The javadoc passed is always the raw javadoc of the field, an entry is only used
+ * for the javadoc it was rendered from. Javadoc without tags nor entities is returned unchanged.
+ */
+public class QuarkusJavadocRenderer {
+    private static final int CACHE_SIZE = 5000;
+
+    private static final Pattern INLINE_TAG = Pattern.compile("\\{@(code|literal|link|linkplain|value)\\s+([^}]*)}");
+
+    private static final Pattern HTML_TAG = Pattern.compile("<(/?)([a-zA-Z0-9]+)[^>]*>");
+
+    public static final QuarkusJavadocRenderer INSTANCE = new QuarkusJavadocRenderer();
+
+    /**
+     * The rendered javadoc of a config item.
+     */
+    public static class RenderedDoc {
+        private final String javadoc;
+        private final String markdown;
+        private final String html;
+
+        private RenderedDoc(String javadoc, String markdown, String html) {
+            this.javadoc = javadoc;
+            this.markdown = markdown;
+            this.html = html;
+        }
+
+        public String getMarkdown() {
+            return markdown;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+    }
+
+    private final Map<String, RenderedDoc> cache = new LinkedHashMap<String, RenderedDoc>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RenderedDoc> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * @param location the jar of the config item
+     * @param source the field of the config item: <code>class#field</code>
+     * @param javadoc the javadoc
+     * @return the rendered javadoc or null if there is no javadoc
+     */
+    @Nullable
+    public RenderedDoc render(@Nullable String location, String source, @Nullable String javadoc) {
+        if (javadoc == null) {
+            return null;
+        }
+        String key = location + "!" + source;
+        synchronized (cache) {
+            RenderedDoc doc = cache.get(key);
+            if (doc != null && doc.javadoc.equals(javadoc)) {
+                return doc;
+            }
+        }
+        RenderedDoc doc = new RenderedDoc(javadoc, renderMarkdown(javadoc), renderHtml(javadoc));
+        synchronized (cache) {
+            cache.put(key, doc);
+        }
+        return doc;
+    }
+
+    /**
+     * @param location the jar of the config item
+     * @param source the field of the config item: <code>class#field</code>
+     * @param javadoc the javadoc
+     * @return the javadoc rendered as Markdown or null if there is no javadoc
+     */
+    @Nullable
+    public String toMarkdown(@Nullable String location, String source, @Nullable String javadoc) {
+        RenderedDoc doc = render(location, source, javadoc);
+        return doc != null ? doc.getMarkdown() : null;
+    }
+
+    private static boolean isPlainText(String javadoc) {
+        return javadoc.indexOf('<') == -1 && javadoc.indexOf('&') == -1 && !javadoc.contains("{@");
+    }
+
+    static String renderMarkdown(String javadoc) {
+        if (isPlainText(javadoc)) {
+            return javadoc;
+        }
+        StringBuffer buffer = new StringBuffer();
+        Matcher matcher = INLINE_TAG.matcher(javadoc);
+        while (matcher.find()) {
+            String text = "literal".equals(matcher.group(1)) ? matcher.group(2) : "`" + getLinkLabel(matcher.group(1), matcher.group(2)) + "`";
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(text));
+        }
+        matcher.appendTail(buffer);
+
+        String text = buffer.toString();
+        buffer = new StringBuffer();
+        matcher = HTML_TAG.matcher(text);
+        while (matcher.find()) {
+            boolean closing = !matcher.group(1).isEmpty();
+            String replacement;
+            switch (matcher.group(2).toLowerCase()) {
+                case "p":
+                    replacement = closing ? "" : "\n\n";
+                    break;
+                case "br":
+                    replacement = "  \n";
+                    break;
+                case "li":
+                    replacement = closing ? "" : "\n* ";
+                    break;
+                case "ul":
+                case "ol":
+                    replacement = "\n";
+                    break;
+                case "code":
+                case "tt":
+                    replacement = "`";
+                    break;
+                case "b":
+                case "strong":
+                    replacement = "**";
+                    break;
+                case "i":
+                case "em":
+                    replacement = "_";
+                    break;
+                case "pre":
+                    replacement = "\n```\n";
+                    break;
+                default:
+                    replacement = "";
+            }
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(buffer);
+        return StringUtil.unescapeXml(buffer.toString()).replaceAll("\n{3,}", "\n\n").trim();
+    }
+
+    static String renderHtml(String javadoc) {
+        if (isPlainText(javadoc)) {
+            return StringUtil.escapeXml(javadoc).replace("\n\n", "<p>");
+        }
+        StringBuffer buffer = new StringBuffer();
+        Matcher matcher = INLINE_TAG.matcher(javadoc);
+        while (matcher.find()) {
+            String text = "literal".equals(matcher.group(1)) ? StringUtil.escapeXml(matcher.group(2))
+                    : "<code>" + StringUtil.escapeXml(getLinkLabel(matcher.group(1), matcher.group(2))) + "</code>";
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(text));
+        }
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * @return the label of a link (<code>{@link Class#member label}</code>) or the text of other inline tags
+     */
+    private static String getLinkLabel(String tag, String text) {
+        text = text.trim();
+        if (!tag.startsWith("link") && !"value".equals(tag)) {
+            return text;
+        }
+        int index = text.indexOf(' ');
+        if (index != -1) {
+            return text.substring(index + 1).trim();
+        }
+        String reference = text.startsWith("#") ? text.substring(1) : text;
+        index = reference.indexOf('#');
+        return index != -1 ? StringUtil.getShortName(reference.substring(0, index)) + "." + reference.substring(index + 1) : StringUtil.getShortName(reference);
+    }
+}
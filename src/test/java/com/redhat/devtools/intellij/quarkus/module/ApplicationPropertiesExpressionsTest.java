@@ -0,0 +1,55 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.testFramework.UsefulTestCase;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesExpressions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ApplicationPropertiesExpressionsTest extends UsefulTestCase {
+    /**
+     * @return the expressions of the value as <code>name@offset</code>, followed by <code>:</code> if there is a
+     * default value
+     */
+    private static List<String> parse(String value) {
+        List<String> result = new ArrayList<>();
+        for (ApplicationPropertiesExpressions.Expression expression : ApplicationPropertiesExpressions.parse(value)) {
+            result.add(expression.getName() + "@" + expression.getOffset() + (expression.hasDefault() ? ":" : ""));
+        }
+        return result;
+    }
+
+    public void testExpressions() {
+        assertOrderedEquals(parse("${quarkus.http.host}"), "quarkus.http.host@2");
+        assertOrderedEquals(parse("http://${host}:${port}/api"), "host@9", "port@17");
+        assertEmpty(parse("plain value"));
+        assertEmpty(parse("$host"));
+        assertEmpty(parse("${}"));
+    }
+
+    public void testDefaultValues() {
+        assertOrderedEquals(parse("${port:8080}"), "port@2:");
+        assertOrderedEquals(parse("${port:}"), "port@2:");
+        assertOrderedEquals(parse("${path:\\}}"), "path@2:");
+    }
+
+    public void testNesting() {
+        assertOrderedEquals(parse("${a:${b}}"), "a@2:", "b@6");
+        assertOrderedEquals(parse("${a:${b:${c}}}"), "a@2:", "b@6:", "c@10");
+        assertOrderedEquals(parse("${a:x${b}y}"), "a@2:", "b@7");
+    }
+
+    public void testEscapes() {
+        assertEmpty(parse("\\${a}"));
+        assertOrderedEquals(parse("\\${a}${b}"), "b@7");
+        assertOrderedEquals(parse("\\\\${a}"), "a@4");
+    }
+
+    public void testUnterminated() {
+        assertEmpty(parse("${a"));
+        assertEmpty(parse("${a:default"));
+        assertEmpty(parse("${a:${b"));
+        assertOrderedEquals(parse("${a ${b}"), "b@6");
+        assertOrderedEquals(parse("${a:${b}"), "b@6");
+    }
+}
@@ -0,0 +1,44 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.testFramework.LexerTestCase;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLexer;
+
+/**
+ * Tokens of Quarkus properties files and restart of the lexer at each line start, which the incremental highlighting
+ * relies on.
+ */
+public class ApplicationPropertiesLexerTest extends LexerTestCase {
+    private static final String TEXT = "%dev.\"quarkus\".http = 8080\n# comment\nkey=a\\\n  b";
+
+    @Override
+    protected Lexer createLexer() {
+        return new ApplicationPropertiesLexer();
+    }
+
+    @Override
+    protected String getDirPath() {
+        return "src/test/resources/parsing";
+    }
+
+    public void testTokens() {
+        doTest(TEXT,
+                "ApplicationPropertiesTokenType.PROFILE ('%dev')\n" +
+                "ApplicationPropertiesTokenType.DOT ('.')\n" +
+                "ApplicationPropertiesTokenType.KEY_SEGMENT ('\"quarkus\"')\n" +
+                "ApplicationPropertiesTokenType.DOT ('.')\n" +
+                "ApplicationPropertiesTokenType.KEY_SEGMENT ('http')\n" +
+                "ApplicationPropertiesTokenType.SEPARATOR (' = ')\n" +
+                "ApplicationPropertiesTokenType.VALUE ('8080')\n" +
+                "WHITE_SPACE ('\\n')\n" +
+                "ApplicationPropertiesTokenType.COMMENT ('# comment')\n" +
+                "WHITE_SPACE ('\\n')\n" +
+                "ApplicationPropertiesTokenType.KEY_SEGMENT ('key')\n" +
+                "ApplicationPropertiesTokenType.SEPARATOR ('=')\n" +
+                "ApplicationPropertiesTokenType.VALUE ('a\\\\n  b')");
+    }
+
+    public void testRestart() {
+        checkCorrectRestart(TEXT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.testFramework.ParsingTestCase;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesLanguage;
+import com.redhat.devtools.intellij.quarkus.lang.ApplicationPropertiesParserDefinition;
+import com.redhat.devtools.intellij.quarkus.lang.psi.ApplicationPropertiesTypes;
+
+/**
+ * PSI of Quarkus properties files, compared with the trees of src/test/resources/parsing, and the rule deciding
+ * whether an edited property line can be reparsed alone.
+ */
+public class ApplicationPropertiesParsingTest extends ParsingTestCase {
+    public ApplicationPropertiesParsingTest() {
+        super("parsing", "properties", new ApplicationPropertiesParserDefinition());
+    }
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/resources";
+    }
+
+    public void testProfiles() {
+        doTest(true);
+    }
+
+    public void testQuotedSegments() {
+        doTest(true);
+    }
+
+    public void testContinuationLines() {
+        doTest(true);
+    }
+
+    public void testPropertyReparse() {
+        assertTrue(isParsable("%dev.quarkus.http.port=8081"));
+        assertTrue(isParsable("quarkus.datasource.url=jdbc:h2:\\\n    mem:test"));
+        assertTrue(isParsable("quarkus.path=C:\\\\"));
+        // the line would swallow the next one
+        assertFalse(isParsable("quarkus.http.host=local\\"));
+        assertFalse(isParsable("quarkus.http.port=8081\nquarkus.http.host=localhost"));
+        assertFalse(isParsable("# quarkus.http.port=8081"));
+        assertFalse(isParsable(""));
+    }
+
+    private boolean isParsable(String text) {
+        return ApplicationPropertiesTypes.PROPERTY.isParsable(text, ApplicationPropertiesLanguage.INSTANCE, getProject());
+    }
+}
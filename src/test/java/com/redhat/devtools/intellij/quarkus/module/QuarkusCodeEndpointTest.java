@@ -0,0 +1,138 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.ide.util.projectWizard.WizardContext;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.testFramework.LightPlatformTestCase;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.ui.SearchTextField;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.UIUtil;
+import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
+
+import javax.swing.JComponent;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Catalog load, wizard population and project generation against an in process endpoint, both for correctness
+ * and as benchmarks with a simulated network.
+ */
+public class QuarkusCodeEndpointTest extends LightPlatformTestCase {
+    private static final int CATALOG_SIZE = 1000;
+
+    private QuarkusCodeStubServer server;
+    private final AtomicInteger run = new AtomicInteger();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        server = new QuarkusCodeStubServer();
+        server.setCatalogSize(CATALOG_SIZE);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            server.close();
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    /**
+     * @return an endpoint URL never used before, so that nothing is cached for it
+     */
+    private String newEndpointURL() {
+        return server.getURL() + "/" + getName() + "-" + run.incrementAndGet();
+    }
+
+    private static int getExtensionCount(QuarkusModel model) {
+        return model.getCategories().stream().mapToInt(category -> category.getExtensions().size()).sum();
+    }
+
+    public void testCatalogLoad() throws Exception {
+        String url = newEndpointURL();
+        QuarkusModel model = new QuarkusModelRegistry().load(url, new EmptyProgressIndicator());
+        assertEquals(CATALOG_SIZE, getExtensionCount(model));
+        assertEquals(10, model.getCategories().size());
+        assertEquals(1, server.getExtensionsRequests());
+
+        // served from the disk cache then revalidated in the background
+        QuarkusModelRegistry registry = new QuarkusModelRegistry();
+        model = registry.load(url, new EmptyProgressIndicator());
+        assertEquals(CATALOG_SIZE, getExtensionCount(model));
+        registry.getRefresh(url).get(10, TimeUnit.SECONDS);
+        assertEquals(1, server.getNotModifiedResponses());
+    }
+
+    public void testCatalogLoadBenchmark() {
+        server.setLatency(50);
+        server.setBandwidth(1024 * 1024);
+        PlatformTestUtil.startPerformanceTest("Quarkus catalog load", 2000, () -> {
+            QuarkusModel model = new QuarkusModelRegistry().load(newEndpointURL(), new EmptyProgressIndicator());
+            assertEquals(CATALOG_SIZE, getExtensionCount(model));
+        }).assertTiming();
+    }
+
+    public void testWizardPopulationBenchmark() throws IOException {
+        QuarkusModel model = new QuarkusModelRegistry().load(newEndpointURL(), new EmptyProgressIndicator());
+        PlatformTestUtil.startPerformanceTest("Quarkus extensions step population", 200, () -> {
+            // a new model so that the extension index is built again
+            WizardContext context = new WizardContext(null, getTestRootDisposable());
+            context.putUserData(QuarkusConstants.WIZARD_MODEL_KEY, new QuarkusModel(model.getCategories()));
+            context.putUserData(QuarkusConstants.WIZARD_EXTENSIONS_KEY, new HashSet<>());
+            QuarkusExtensionsStep step = new QuarkusExtensionsStep(context);
+            JComponent component = step.getComponent();
+            JBTable table = UIUtil.findComponentOfType(component, JBTable.class);
+            assertEquals(CATALOG_SIZE, table.getModel().getRowCount());
+            // the first category is selected
+            assertEquals(model.getCategories().get(0).getExtensions().size(), table.getRowCount());
+            UIUtil.findComponentOfType(component, SearchTextField.class).setText("ext999");
+            assertEquals(1, table.getRowCount());
+            UIUtil.findComponentOfType(component, SearchTextField.class).setText("extension");
+            assertEquals(CATALOG_SIZE, table.getRowCount());
+        }).assertTiming();
+    }
+
+    public void testProjectGeneration() throws IOException {
+        server.setProjectSize(20, 1024);
+        File target = FileUtil.createTempDirectory("quarkus", null);
+        List<File> files = QuarkusProjectDownloader.download(newEndpointURL() + "/api/download", target, new EmptyProgressIndicator());
+        assertEquals(21, files.size());
+        assertTrue(new File(target, "pom.xml").isFile());
+        assertEquals(1024, new File(target, "src/main/java/org/acme/Class0.java").length());
+    }
+
+    public void testProjectGenerationBenchmark() throws IOException {
+        server.setLatency(50);
+        server.setBandwidth(512 * 1024);
+        server.setProjectSize(50, 4 * 1024);
+        File target = FileUtil.createTempDirectory("quarkus", null);
+        PlatformTestUtil.startPerformanceTest("Quarkus project generation", 2000, () -> {
+            FileUtil.delete(target);
+            List<File> files = QuarkusProjectDownloader.download(newEndpointURL() + "/api/download", target, new EmptyProgressIndicator());
+            assertEquals(51, files.size());
+        }).assertTiming();
+    }
+
+    public void testOfflineProjectGeneration() throws IOException {
+        QuarkusModel model = new QuarkusModelRegistry().loadOffline(newEndpointURL());
+        QuarkusExtension extension = model.getCategories().get(0).getExtensions().get(1);
+        File target = FileUtil.createTempDirectory("quarkus", null);
+        List<File> files = QuarkusLocalProjectGenerator.INSTANCE.generate(target, "org.acme", "code-with-quarkus",
+                "1.0.0-SNAPSHOT", "org.acme.ExampleResource", "/hello", Collections.singleton(extension), new EmptyProgressIndicator());
+        assertEquals(6, files.size());
+        String pom = FileUtil.loadFile(new File(target, "pom.xml"));
+        assertTrue(pom.contains("<artifactId>" + extension.getId().substring(extension.getId().indexOf(':') + 1) + "</artifactId>"));
+        assertTrue(pom.contains("<artifactId>code-with-quarkus</artifactId>"));
+        assertTrue(pom.contains("${quarkus.platform.version}"));
+        assertTrue(new File(target, "src/main/java/org/acme/ExampleResource.java").isFile());
+    }
+}
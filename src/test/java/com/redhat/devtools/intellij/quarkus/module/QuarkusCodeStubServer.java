@@ -0,0 +1,191 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * In process stub of a Quarkus code endpoint serving /api/extensions and /api/download from generated fixtures.
+ * Any path prefix is accepted so that each test can use its own endpoint URL (and thus its own cache entry).
+ * Latency is added before each response and the bandwidth is limited by writing the body in timed chunks.
+ */
+public class QuarkusCodeStubServer implements AutoCloseable {
+    private static final String EXTENSIONS_SUFFIX = "/api/extensions";
+    private static final String DOWNLOAD_SUFFIX = "/api/download";
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final String ETAG = "\"catalog\"";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger extensionsRequests = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    private volatile long latency;
+    private volatile long bandwidth;
+    private volatile byte[] catalog;
+    private volatile byte[] project;
+
+    public QuarkusCodeStubServer() throws IOException {
+        setCatalogSize(100);
+        setProjectSize(10, 1024);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * @return the endpoint URL, a path prefix can be appended
+     */
+    public String getURL() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * @param latency the delay in milliseconds before each response
+     */
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * @param bandwidth the bandwidth in bytes per second, 0 for no limit
+     */
+    public void setBandwidth(long bandwidth) {
+        this.bandwidth = bandwidth;
+    }
+
+    /**
+     * @param size the number of extensions of the catalog
+     */
+    public void setCatalogSize(int size) throws IOException {
+        catalog = createCatalog(size);
+    }
+
+    /**
+     * @param files the number of files of the generated project, in addition to the pom.xml
+     * @param fileSize the size of each file
+     */
+    public void setProjectSize(int files, int fileSize) throws IOException {
+        project = createProject(files, fileSize);
+    }
+
+    public int getExtensionsRequests() {
+        return extensionsRequests.get();
+    }
+
+    public int getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream ignored = exchange.getRequestBody()) {
+            sleep(latency);
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith(EXTENSIONS_SUFFIX)) {
+                extensionsRequests.incrementAndGet();
+                if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModifiedResponses.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.getResponseHeaders().add("ETag", ETAG);
+                    send(exchange, catalog);
+                }
+            } else if (path.endsWith(DOWNLOAD_SUFFIX)) {
+                exchange.getResponseHeaders().add("Content-Type", "application/zip");
+                send(exchange, project);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void send(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream stream = exchange.getResponseBody()) {
+            long bandwidth = this.bandwidth;
+            for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+                int length = Math.min(CHUNK_SIZE, body.length - offset);
+                stream.write(body, offset, length);
+                stream.flush();
+                if (bandwidth > 0) {
+                    sleep(length * 1000L / bandwidth);
+                }
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static byte[] createCatalog(int size) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(stream)) {
+            generator.writeStartArray();
+            for (int i = 0; i < size; ++i) {
+                generator.writeStartObject();
+                generator.writeStringField("id", "io.quarkus:quarkus-extension-" + i);
+                generator.writeStringField("name", "Extension " + i);
+                generator.writeStringField("shortName", "ext" + i);
+                generator.writeArrayFieldStart("labels");
+                generator.writeString("extension-" + i);
+                generator.writeString("label" + (i % 7));
+                generator.writeEndArray();
+                generator.writeStringField("description", "Description of the extension number " + i);
+                generator.writeStringField("category", "Category " + (i % 10));
+                generator.writeNumberField("order", i);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        return stream.toByteArray();
+    }
+
+    private static byte[] createProject(int files, int fileSize) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(stream)) {
+            zip.putNextEntry(new ZipEntry("code-with-quarkus/"));
+            zip.putNextEntry(new ZipEntry("code-with-quarkus/pom.xml"));
+            zip.write("<project/>".getBytes(StandardCharsets.UTF_8));
+            byte[] content = new byte[fileSize];
+            for (int i = 0; i < fileSize; ++i) {
+                content[i] = (byte) ('a' + i % 26);
+            }
+            for (int i = 0; i < files; ++i) {
+                zip.putNextEntry(new ZipEntry("code-with-quarkus/src/main/java/org/acme/Class" + i + ".java"));
+                zip.write(content);
+            }
+        }
+        return stream.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.testFramework.LightPlatformTestCase;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigKeyBKTree;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class QuarkusConfigKeyBKTreeTest extends LightPlatformTestCase {
+    private static final int KEY_COUNT = 30000;
+
+    private static final String[] PROPERTIES = {"enabled", "url", "username", "password", "max-size", "min-size", "timeout", "path", "level", "format"};
+
+    private static ExtendedConfigDescriptionBuildItem item(String name) {
+        ExtendedConfigDescriptionBuildItem item = new ExtendedConfigDescriptionBuildItem();
+        item.setPropertyName(name);
+        return item;
+    }
+
+    private static List<ExtendedConfigDescriptionBuildItem> generateItems() {
+        List<ExtendedConfigDescriptionBuildItem> items = new ArrayList<>(KEY_COUNT + 2);
+        items.add(item("quarkus.http.port"));
+        items.add(item("quarkus.datasource.{*}.url"));
+        for (int i = 0; items.size() < KEY_COUNT; ++i) {
+            items.add(item("quarkus.extension" + i / PROPERTIES.length + ".group" + i % 13 + "." + PROPERTIES[i % PROPERTIES.length]));
+        }
+        return items;
+    }
+
+    public void testSuggest() {
+        QuarkusConfigKeyBKTree tree = new QuarkusConfigKeyBKTree(Arrays.asList(item("quarkus.http.port"), item("quarkus.http.host"),
+                item("quarkus.datasource.{*}.url")));
+        assertEquals(Arrays.asList("quarkus.http.port"), tree.suggest("quarkus.http.prot", 3));
+        assertSameElements(tree.suggest("quarkus.http.hort", 3), "quarkus.http.host", "quarkus.http.port");
+        assertEquals(Arrays.asList("quarkus.http.host"), tree.suggest("quarkus.http.hos", 3));
+        assertEquals(Arrays.asList("quarkus.datasource.users.url"), tree.suggest("quarkus.datasource.users.ulr", 3));
+        assertEmpty(tree.suggest("quarkus.unknown.extension.property", 3));
+    }
+
+    public void testSuggestBenchmark() {
+        List<ExtendedConfigDescriptionBuildItem> items = generateItems();
+        QuarkusConfigKeyBKTree tree = new QuarkusConfigKeyBKTree(items);
+        PlatformTestUtil.startPerformanceTest("Quarkus unknown key suggestions", 50, () -> {
+            assertEquals("quarkus.http.port", tree.suggest("quarkus.http.prot", 3).get(0));
+            assertEquals("quarkus.datasource.users.url", tree.suggest("quarkus.datasource.users.ulr", 3).get(0));
+            assertEquals("quarkus.extension1000.group4.url", tree.suggest("quarkus.extension1000.group4.ulr", 3).get(0));
+        }).assertTiming();
+    }
+
+    public void testBuildBenchmark() {
+        List<ExtendedConfigDescriptionBuildItem> items = generateItems();
+        PlatformTestUtil.startPerformanceTest("Quarkus unknown key index build", 2000, () -> {
+            new QuarkusConfigKeyBKTree(items);
+        }).assertTiming();
+    }
+}
@@ -0,0 +1,63 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.testFramework.UsefulTestCase;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigKeyTrie;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class QuarkusConfigKeyTrieTest extends UsefulTestCase {
+    private static final ExtendedConfigDescriptionBuildItem PORT = item("quarkus.http.port");
+    private static final ExtendedConfigDescriptionBuildItem CATEGORY_LEVEL = item("quarkus.log.category.{*}.level");
+    private static final ExtendedConfigDescriptionBuildItem DATASOURCE_URL = item("quarkus.datasource.{*}.url");
+    private static final ExtendedConfigDescriptionBuildItem JDBC_MAX_SIZE = item("quarkus.datasource.jdbc.max-size");
+
+    private final QuarkusConfigKeyTrie trie = new QuarkusConfigKeyTrie(Arrays.asList(PORT, CATEGORY_LEVEL, DATASOURCE_URL, JDBC_MAX_SIZE));
+
+    private static ExtendedConfigDescriptionBuildItem item(String name) {
+        ExtendedConfigDescriptionBuildItem item = new ExtendedConfigDescriptionBuildItem();
+        item.setPropertyName(name);
+        return item;
+    }
+
+    public void testExactMatch() {
+        assertSame(PORT, trie.match("quarkus.http.port"));
+        assertSame(JDBC_MAX_SIZE, trie.match("quarkus.datasource.jdbc.max-size"));
+        assertNull(trie.match("quarkus.http.prot"));
+        assertNull(trie.match("quarkus.http"));
+        assertNull(trie.match("quarkus.http.port.suffix"));
+        assertNull(trie.match("quarkus.http."));
+        assertNull(trie.match(""));
+    }
+
+    public void testProfile() {
+        assertSame(PORT, trie.match("%dev.quarkus.http.port"));
+        assertNull(trie.match("%dev"));
+        assertEquals("quarkus.http.port", QuarkusConfigKeyTrie.stripProfile("%prod.quarkus.http.port"));
+        assertEquals("quarkus.http.port", QuarkusConfigKeyTrie.stripProfile("quarkus.http.port"));
+        assertEquals("", QuarkusConfigKeyTrie.stripProfile("%dev"));
+    }
+
+    public void testWildcard() {
+        assertSame(CATEGORY_LEVEL, trie.match("quarkus.log.category.io.level"));
+        assertSame(DATASOURCE_URL, trie.match("quarkus.datasource.users.url"));
+        // an unquoted key with dots spans several segments
+        assertNull(trie.match("quarkus.log.category.io.quarkus.level"));
+    }
+
+    public void testBacktracking() {
+        // the exact segment jdbc has no url child, the wildcard is tried next
+        assertSame(DATASOURCE_URL, trie.match("quarkus.datasource.jdbc.url"));
+        assertSame(JDBC_MAX_SIZE, trie.match("quarkus.datasource.jdbc.max-size"));
+        assertNull(trie.match("quarkus.datasource.users.max-size"));
+    }
+
+    public void testQuotedSegments() {
+        assertSame(CATEGORY_LEVEL, trie.match("quarkus.log.category.\"io.quarkus.arc\".level"));
+        assertSame(CATEGORY_LEVEL, trie.match("%test.quarkus.log.category.\"io.quarkus\".level"));
+        assertOrderedEquals(QuarkusConfigKeyTrie.split("quarkus.log.category.\"io.quarkus\".level"),
+                "quarkus", "log", "category", "\"io.quarkus\"", "level");
+        assertEquals(Collections.emptyList(), QuarkusConfigKeyTrie.split(""));
+    }
+}
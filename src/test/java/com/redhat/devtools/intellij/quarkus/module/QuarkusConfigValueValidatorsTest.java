@@ -0,0 +1,93 @@
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.testFramework.UsefulTestCase;
+import com.redhat.devtools.intellij.quarkus.search.QuarkusConfigValueValidators;
+import com.redhat.quarkus.commons.ExtendedConfigDescriptionBuildItem;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class QuarkusConfigValueValidatorsTest extends UsefulTestCase {
+    private static ExtendedConfigDescriptionBuildItem item(String type, String... enums) {
+        ExtendedConfigDescriptionBuildItem item = new ExtendedConfigDescriptionBuildItem();
+        item.setPropertyName("quarkus.test");
+        item.setType(type);
+        if (enums.length > 0) {
+            item.setEnums(Arrays.asList(enums));
+        }
+        return item;
+    }
+
+    private static void assertValid(ExtendedConfigDescriptionBuildItem item, String... values) {
+        QuarkusConfigValueValidators validators = new QuarkusConfigValueValidators(Collections.singletonList(item));
+        for (String value : values) {
+            assertNull(item.getType() + ": " + value, validators.validate(item, value));
+        }
+    }
+
+    private static void assertInvalid(ExtendedConfigDescriptionBuildItem item, String... values) {
+        QuarkusConfigValueValidators validators = new QuarkusConfigValueValidators(Collections.singletonList(item));
+        for (String value : values) {
+            assertNotNull(item.getType() + ": " + value, validators.validate(item, value));
+        }
+    }
+
+    public void testBoolean() {
+        assertValid(item("boolean"), "true", "FALSE", "yes", "off", "1");
+        assertInvalid(item("java.lang.Boolean"), "maybe", "");
+    }
+
+    public void testIntegerRanges() {
+        assertValid(item("int"), "8080", "-1", "2147483647");
+        assertInvalid(item("int"), "2147483648", "8080.0", "port");
+        assertValid(item("byte"), "127");
+        assertInvalid(item("java.lang.Byte"), "128");
+        assertValid(item("java.util.OptionalLong"), "9223372036854775807");
+    }
+
+    public void testDecimal() {
+        assertValid(item("double"), "0.5", "1e3", "-2");
+        assertInvalid(item("java.lang.Float"), "half");
+    }
+
+    public void testEnum() {
+        ExtendedConfigDescriptionBuildItem item = item("java.sql.Connection", "READ_UNCOMMITTED", "SERIALIZABLE");
+        assertValid(item, "READ_UNCOMMITTED", "read-uncommitted", "Serializable");
+        assertInvalid(item, "read uncommitted", "none");
+    }
+
+    public void testEnumCollections() {
+        ExtendedConfigDescriptionBuildItem list = item("java.util.List<io.quarkus.Level>", "INFO", "DEBUG");
+        assertValid(list, "INFO", "info,DEBUG", "INFO, debug");
+        assertInvalid(list, "INFO,TRACE", "INFO DEBUG");
+        ExtendedConfigDescriptionBuildItem optional = item("java.util.Optional<io.quarkus.Level>", "INFO", "DEBUG");
+        assertValid(optional, "debug");
+        assertInvalid(optional, "info,debug");
+    }
+
+    public void testDuration() {
+        assertValid(item("java.time.Duration"), "10", "10s", "5M", "PT1H", "P2D");
+        assertInvalid(item("java.time.Duration"), "10x", "ten seconds");
+    }
+
+    public void testMemorySize() {
+        assertValid(item("io.quarkus.runtime.configuration.MemorySize"), "512", "512M", "1g");
+        assertInvalid(item("io.quarkus.runtime.configuration.MemorySize"), "512MB", "-1M");
+    }
+
+    public void testCollectionsAndOptional() {
+        assertValid(item("java.util.List<java.lang.Integer>"), "1", "1, 2,3");
+        assertInvalid(item("java.util.List<java.lang.Integer>"), "1,a");
+        assertValid(item("java.util.Optional<java.lang.Boolean>"), "true");
+        assertInvalid(item("java.util.Optional<java.lang.Boolean>"), "nope");
+        assertInvalid(item("java.util.Optional<java.util.List<java.lang.Integer>>"), "1,two");
+    }
+
+    public void testUnvalidatedTypes() {
+        assertValid(item("java.lang.String"), "", "anything");
+        assertValid(item("java.util.List<java.lang.String>"), "a\\,b,c");
+        List<ExtendedConfigDescriptionBuildItem> noType = Collections.singletonList(new ExtendedConfigDescriptionBuildItem());
+        assertNull(new QuarkusConfigValueValidators(noType).validate(noType.get(0), "value"));
+    }
+}